@@ -38,11 +38,26 @@ public class AudioPlayer {
     private float volume = 0.5f;
     private boolean songMute, effectMute;
     private Random rand = new Random();
+    private boolean enabled;
 
     /**
      * Konstruktor für die AudioPlayer-Klasse. Lädt Songs und startet das Menü-Song.
      */
     public AudioPlayer() {
+        this(true);
+    }
+
+    /**
+     * Konstruktor für die AudioPlayer-Klasse.
+     * Ein deaktivierter AudioPlayer lädt keine Clips und greift nie auf das Audiosystem zu,
+     * alle Aufrufe bleiben dann ohne Wirkung (z.B. im Headless-Modus).
+     *
+     * @param enabled true, wenn Songs und Soundeffekte geladen und abgespielt werden sollen.
+     */
+    public AudioPlayer(boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled)
+            return;
         loadSongs();
         loadEffects();
         playSong(MENU_1);
@@ -99,6 +114,8 @@ public class AudioPlayer {
      */
     public void setVolume(float volume) {
         this.volume = volume;
+        if (!enabled)
+            return;
         updateSongVolume();
         updateEffectsVolume();
     }
@@ -107,6 +124,8 @@ public class AudioPlayer {
      * Stoppt die aktuell abgespielte Hintergrundmusik.
      */
     public void stopSong() {
+        if (!enabled)
+            return;
         if (songs[currentSongId].isActive())
             songs[currentSongId].stop();
     }
@@ -132,6 +151,15 @@ public class AudioPlayer {
         playEffect(LVL_COMPLETED);
     }
 
+    /**
+     * Setzt den Startwert des Zufallsgenerators, der die Angriffsgeräusche auswählt.
+     *
+     * @param seed Der Startwert der Spielsitzung.
+     */
+    public void setSeed(long seed) {
+        rand.setSeed(seed);
+    }
+
     /**
      * Spielt einen zufälligen Angriffssoundeffekt ab.
      */
@@ -147,6 +175,8 @@ public class AudioPlayer {
      * @param effect Der Index des Soundeffekts, der abgespielt werden soll.
      */
     public void playEffect(int effect) {
+        if (!enabled)
+            return;
         if (effects[effect].getMicrosecondPosition() > 0)
             effects[effect].setMicrosecondPosition(0);
         effects[effect].start();
@@ -158,6 +188,8 @@ public class AudioPlayer {
      * @param song Der Index des Songs, der abgespielt werden soll.
      */
     public void playSong(int song) {
+        if (!enabled)
+            return;
         stopSong();
 
         currentSongId = song;
@@ -171,6 +203,8 @@ public class AudioPlayer {
      */
     public void toggleSongMute() {
         this.songMute = !songMute;
+        if (!enabled)
+            return;
         for (Clip c : songs) {
             BooleanControl booleanControl = (BooleanControl) c.getControl(BooleanControl.Type.MUTE);
             booleanControl.setValue(songMute);
@@ -182,6 +216,8 @@ public class AudioPlayer {
      */
     public void toggleEffectMute() {
         this.effectMute = !effectMute;
+        if (!enabled)
+            return;
         for (Clip c : effects) {
             BooleanControl booleanControl = (BooleanControl) c.getControl(BooleanControl.Type.MUTE);
             booleanControl.setValue(effectMute);
@@ -0,0 +1,111 @@
+package effects;
+
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+import mainPackage.Game;
+import render.SoftwareRasterizer;
+import utilz.LoadSave;
+
+/**
+ * Die Klasse ParallaxBackground zeichnet den Hintergrund aus mehreren Ebenen, die sich
+ * unterschiedlich schnell mit der Kamera verschieben: ferne Ebenen langsam, nahe schneller.
+ * Jede Ebene ist ein einmal vorskaliertes Bild, das waagrecht gekachelt wird; pro Frame kostet
+ * sie nur unskalierte Kopien, die am Bildrand umbrechen. Nicht kachelbare Bilder werden dafür
+ * einmal mit ihrem Spiegelbild verbunden, siehe {@link #fromBands}.
+ */
+public class ParallaxBackground {
+
+    /**
+     * Eine Ebene: Bild, obere Kante und Anteil des Levelversatzes, um den sie sich verschiebt.
+     */
+    private record Layer(BufferedImage image, int y, float rate) {
+    }
+
+    private final List<Layer> layers = new ArrayList<>();
+
+    /**
+     * Fügt eine Ebene hinzu. Die Ebenen werden in der Reihenfolge gezeichnet, in der sie
+     * hinzugefügt wurden.
+     *
+     * @param image Das vorskalierte, waagrecht kachelbare Bild.
+     * @param y     Die obere Kante der Ebene.
+     * @param rate  Der Anteil des Levelversatzes, um den sich die Ebene verschiebt: 0 steht
+     *              still, 1 bewegt sich mit dem Level.
+     */
+    public void addLayer(BufferedImage image, int y, float rate) {
+        layers.add(new Layer(image, y, rate));
+    }
+
+    /**
+     * Erzeugt einen Hintergrund aus einem einzelnen Bild, das in waagrechte Streifen zerlegt
+     * wird. Jeder Streifen wird eine eigene Ebene; geschnitten wird am besten an Zeilen, die über
+     * die ganze Breite gleich aussehen, z.B. am Horizont. Da das Bild selbst nicht kachelbar ist,
+     * wird jedem Streifen sein waagrechtes Spiegelbild angehängt: Die Ebene ist dann doppelt so
+     * breit, und an beiden Übergängen stoßen gleiche Pixelspalten aneinander.
+     *
+     * @param fileName Der Dateiname des Bildes; es wird einmal auf Spielauflösung skaliert.
+     * @param bounds   Die Grenzen zwischen den Streifen als Anteil der Bildhöhe, aufsteigend.
+     * @param rates    Die Verschiebung jedes Streifens von oben nach unten, einer mehr als
+     *                 {@code bounds}.
+     * @return Der Hintergrund.
+     */
+    public static ParallaxBackground fromBands(String fileName, float[] bounds, float[] rates) {
+        BufferedImage img = LoadSave.GetScaledImage(fileName, Game.GAME_WIDTH, Game.GAME_HEIGHT);
+        ParallaxBackground background = new ParallaxBackground();
+        int top = 0;
+        for (int i = 0; i < rates.length; i++) {
+            int bottom = i < bounds.length ? Math.round(bounds[i] * Game.GAME_HEIGHT) : Game.GAME_HEIGHT;
+            background.addLayer(mirrorTiled(LoadSave.GetSubimage(img, 0, top, img.getWidth(), bottom - top)), top, rates[i]);
+            top = bottom;
+        }
+        return background;
+    }
+
+    // Hängt das Bild gespiegelt rechts an sich selbst an, damit es sich nahtlos kacheln lässt
+    private static BufferedImage mirrorTiled(BufferedImage img) {
+        int w = img.getWidth(), h = img.getHeight();
+        BufferedImage tiled = LoadSave.CreateCompatibleImage(2 * w, h, img.getColorModel().getTransparency());
+        Graphics2D g = tiled.createGraphics();
+        g.drawImage(img, 0, 0, null);
+        g.drawImage(img, 2 * w, 0, w, h, 0, 0, w, h, null);
+        g.dispose();
+        return tiled;
+    }
+
+    /**
+     * Zeichnet alle Ebenen.
+     *
+     * @param g          Die Grafikoberfläche.
+     * @param xLvlOffset Der horizontale Offset des Levels.
+     */
+    public void draw(Graphics g, int xLvlOffset) {
+        for (Layer l : layers) {
+            int width = l.image().getWidth();
+            for (int x = firstX(l, xLvlOffset); x < Game.GAME_WIDTH; x += width)
+                g.drawImage(l.image(), x, l.y(), null);
+        }
+    }
+
+    /**
+     * Übergibt alle Ebenen an den {@link SoftwareRasterizer}, wie bei {@link #draw}.
+     *
+     * @param r          Der Rasterizer.
+     * @param xLvlOffset Der horizontale Offset des Levels.
+     */
+    public void rasterize(SoftwareRasterizer r, int xLvlOffset) {
+        for (Layer l : layers) {
+            int width = l.image().getWidth();
+            for (int x = firstX(l, xLvlOffset); x < Game.GAME_WIDTH; x += width)
+                r.drawImage(l.image(), x, l.y());
+        }
+    }
+
+    // Linke Kante der ersten Kachel, zwischen -Bildbreite und 0
+    private static int firstX(Layer l, int xLvlOffset) {
+        return -Math.floorMod(Math.round(xLvlOffset * l.rate()), l.image().getWidth());
+    }
+}
@@ -1,11 +1,15 @@
 package effects;
 
+import static utilz.Constants.TICK_SCALE;
+
 import java.awt.Graphics;
 import java.awt.geom.Point2D;
 import java.awt.image.BufferedImage;
 import java.util.Random;
 
 import mainPackage.Game;
+import render.RenderSnapshot;
+import render.SpriteRegistry;
 import utilz.LoadSave;
 
 /**
@@ -14,17 +18,23 @@ import utilz.LoadSave;
 public class Rain {
 
     private Point2D.Float[] drops;
+    private int activeDrops;
     private Random rand;
-    private float rainSpeed = 1.25f;
+    private float rainSpeed = 1.25f * TICK_SCALE;
     private BufferedImage rainParticle;
+    private int rainId;
 
     /**
      * Konstruktor für ein neues Rain-Objekt. Initialisiert den Zufallszahlengenerator, die Regentropfen-Array und das Bild für die Regentropfen.
+     *
+     * @param rand Der Zufallsgenerator für die Regentropfen.
      */
-    public Rain() {
-        rand = new Random();
+    public Rain(Random rand) {
+        this.rand = rand;
         drops = new Point2D.Float[1000];
+        activeDrops = drops.length;
         rainParticle = LoadSave.GetSpriteAtlas(LoadSave.RAIN_PARTICLE);
+        rainId = SpriteRegistry.register(LoadSave.RAIN_PARTICLE, rainParticle);
         initDrops();
     }
 
@@ -43,7 +53,8 @@ public class Rain {
      * @param xLvlOffset Der horizontale Offset des Levels.
      */
     public void update(int xLvlOffset) {
-        for (Point2D.Float p : drops) {
+        for (int i = 0; i < activeDrops; i++) {
+            Point2D.Float p = drops[i];
             p.y += rainSpeed;
             if (p.y >= Game.GAME_HEIGHT) {
                 p.y = -20;
@@ -64,8 +75,30 @@ public class Rain {
      * @param xLvlOffset  Der horizontale Offset des Levels.
      */
     public void draw(Graphics g, int xLvlOffset) {
-        for (Point2D.Float p : drops)
+        for (int i = 0; i < activeDrops; i++) {
+            Point2D.Float p = drops[i];
             g.drawImage(rainParticle, (int) p.getX() - xLvlOffset, (int) p.getY(), 1, 3, null);
+        }
+    }
+
+    /**
+     * Überträgt die Regentropfen in den Render-Snapshot.
+     *
+     * @param s Der Snapshot, in den geschrieben wird.
+     */
+    public void submit(RenderSnapshot s) {
+        s.setLayer(RenderSnapshot.LAYER_BACKGROUND, 0);
+        for (int i = 0; i < activeDrops; i++)
+            s.add(rainId, 0, (int) drops[i].x, (int) drops[i].y, 1, 3, 0);
+    }
+
+    /**
+     * Legt fest, welcher Anteil der Regentropfen simuliert und gezeichnet wird.
+     *
+     * @param density Ein Wert zwischen 0 (kein Regen) und 1 (alle Tropfen).
+     */
+    public void setDensity(float density) {
+        activeDrops = (int) (drops.length * density);
     }
 
 }
@@ -73,7 +73,7 @@ public abstract class Enemy extends Entity {
 
         maxHealth = GetMaxHealth(enemyType);
         currentHealth = maxHealth;
-        walkSpeed = Game.SCALE * 0.35f;
+        walkSpeed = Game.SCALE * 0.35f * TICK_SCALE;
     }
 
     /**
@@ -331,25 +331,21 @@ public abstract class Enemy extends Entity {
      *
      * @return Der Wert für die horizontale Spiegelung.
      */
-    public int flipX() {
+    public int flipW() {
         // Wert für horizontale Spiegelung basierend auf Laufrichtung
         if (walkDir == RIGHT)
-            return width;
+            return -1;
         else
-            return 0;
+            return 1;
     }
 
     /**
-     * Gibt den Wert für die horizontale Spiegelung des Gegners basierend auf der Laufrichtung zurück.
+     * Gibt an, ob der Gegner gerade als Treffer-Blitz gezeichnet wird (erster Frame der Treffer-Animation).
      *
-     * @return Der Wert für die horizontale Spiegelung.
+     * @return true während des Treffer-Blitzes.
      */
-    public int flipW() {
-        // Wert für horizontale Spiegelung basierend auf Laufrichtung
-        if (walkDir == RIGHT)
-            return -1;
-        else
-            return 1;
+    public boolean isFlashing() {
+        return state == HIT && aniIndex == 0;
     }
 
     /**
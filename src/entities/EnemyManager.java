@@ -6,6 +6,10 @@ import java.awt.image.BufferedImage;
 
 import gamestates.Playing;
 import levels.Level;
+import render.Culling;
+import render.RenderSnapshot;
+import render.SpriteRegistry;
+import render.SpriteVariants;
 import utilz.LoadSave;
 import static utilz.Constants.EnemyConstants.*;
 
@@ -15,7 +19,7 @@ import static utilz.Constants.EnemyConstants.*;
 public class EnemyManager {
 
     private Playing playing;
-    private BufferedImage[][] crabbyArr, pinkstarArr, sharkArr;
+    private int[] crabbyIds, pinkstarIds, sharkIds;
     private Level currentLevel;
 
     /**
@@ -80,9 +84,9 @@ public class EnemyManager {
 
 	private void drawSharks(Graphics g, int xLvlOffset) {
 		for (Shark s : currentLevel.getSharks())
-			if (s.isActive()) {
-				g.drawImage(sharkArr[s.getState()][s.getAniIndex()], (int) s.getHitbox().x - xLvlOffset - SHARK_DRAWOFFSET_X + s.flipX(),
-						(int) s.getHitbox().y - SHARK_DRAWOFFSET_Y + (int) s.getPushDrawOffset(), SHARK_WIDTH * s.flipW(), SHARK_HEIGHT, null);
+			if (s.isActive() && Culling.isOnScreen((int) s.getHitbox().x - xLvlOffset - SHARK_DRAWOFFSET_X, SHARK_WIDTH)) {
+				SpriteVariants.draw(g, sharkIds[s.getState()], s.getAniIndex(), variantOf(s), (int) s.getHitbox().x - xLvlOffset - SHARK_DRAWOFFSET_X,
+						(int) s.getHitbox().y - SHARK_DRAWOFFSET_Y + (int) s.getPushDrawOffset(), SHARK_WIDTH, SHARK_HEIGHT);
 //				s.drawHitbox(g, xLvlOffset);
 //				s.drawAttackBox(g, xLvlOffset);
 			}
@@ -90,19 +94,19 @@ public class EnemyManager {
 
 	private void drawPinkstars(Graphics g, int xLvlOffset) {
 		for (Pinkstar p : currentLevel.getPinkstars())
-			if (p.isActive()) {
-				g.drawImage(pinkstarArr[p.getState()][p.getAniIndex()], (int) p.getHitbox().x - xLvlOffset - PINKSTAR_DRAWOFFSET_X + p.flipX(),
-						(int) p.getHitbox().y - PINKSTAR_DRAWOFFSET_Y + (int) p.getPushDrawOffset(), PINKSTAR_WIDTH * p.flipW(), PINKSTAR_HEIGHT, null);
+			if (p.isActive() && Culling.isOnScreen((int) p.getHitbox().x - xLvlOffset - PINKSTAR_DRAWOFFSET_X, PINKSTAR_WIDTH)) {
+				SpriteVariants.draw(g, pinkstarIds[p.getState()], p.getAniIndex(), variantOf(p), (int) p.getHitbox().x - xLvlOffset - PINKSTAR_DRAWOFFSET_X,
+						(int) p.getHitbox().y - PINKSTAR_DRAWOFFSET_Y + (int) p.getPushDrawOffset(), PINKSTAR_WIDTH, PINKSTAR_HEIGHT);
 //				p.drawHitbox(g, xLvlOffset);
 			}
 	}
 
 	private void drawCrabs(Graphics g, int xLvlOffset) {
 		for (Crabby c : currentLevel.getCrabs())
-			if (c.isActive()) {
+			if (c.isActive() && Culling.isOnScreen((int) c.getHitbox().x - xLvlOffset - CRABBY_DRAWOFFSET_X, CRABBY_WIDTH)) {
 
-				g.drawImage(crabbyArr[c.getState()][c.getAniIndex()], (int) c.getHitbox().x - xLvlOffset - CRABBY_DRAWOFFSET_X + c.flipX(),
-						(int) c.getHitbox().y - CRABBY_DRAWOFFSET_Y + (int) c.getPushDrawOffset(), CRABBY_WIDTH * c.flipW(), CRABBY_HEIGHT, null);
+				SpriteVariants.draw(g, crabbyIds[c.getState()], c.getAniIndex(), variantOf(c), (int) c.getHitbox().x - xLvlOffset - CRABBY_DRAWOFFSET_X,
+						(int) c.getHitbox().y - CRABBY_DRAWOFFSET_Y + (int) c.getPushDrawOffset(), CRABBY_WIDTH, CRABBY_HEIGHT);
 
 //				c.drawHitbox(g, xLvlOffset);
 //				c.drawAttackBox(g, xLvlOffset);
@@ -110,7 +114,53 @@ public class EnemyManager {
 
 	}
 
-	
+	/**
+	 * Überträgt alle aktiven Feinde in den Render-Snapshot, in derselben Reihenfolge wie
+	 * {@link #draw(Graphics, int)}.
+	 *
+	 * @param s Der Snapshot, in den geschrieben wird.
+	 */
+	public void submit(RenderSnapshot s) {
+		// Feindarten können sich überlappen und behalten deshalb je einen eigenen Sortierschlüssel.
+		s.setLayer(RenderSnapshot.LAYER_ENEMIES, 0);
+		for (Crabby c : currentLevel.getCrabs())
+			if (c.isActive())
+				submitEnemy(s, c, crabbyIds, CRABBY_DRAWOFFSET_X, CRABBY_DRAWOFFSET_Y, CRABBY_WIDTH, CRABBY_HEIGHT);
+		s.setLayer(RenderSnapshot.LAYER_ENEMIES, 1);
+		for (Pinkstar p : currentLevel.getPinkstars())
+			if (p.isActive())
+				submitEnemy(s, p, pinkstarIds, PINKSTAR_DRAWOFFSET_X, PINKSTAR_DRAWOFFSET_Y, PINKSTAR_WIDTH, PINKSTAR_HEIGHT);
+		s.setLayer(RenderSnapshot.LAYER_ENEMIES, 2);
+		for (Shark sh : currentLevel.getSharks())
+			if (sh.isActive())
+				submitEnemy(s, sh, sharkIds, SHARK_DRAWOFFSET_X, SHARK_DRAWOFFSET_Y, SHARK_WIDTH, SHARK_HEIGHT);
+	}
+
+	private void submitEnemy(RenderSnapshot s, Enemy e, int[] ids, int drawOffsetX, int drawOffsetY, int width, int height) {
+		int push = (int) e.getPushDrawOffset();
+		s.add(ids[e.getState()], e.getAniIndex(), (int) e.getHitbox().x - drawOffsetX, (int) e.getHitbox().y - drawOffsetY + push, (int) e.getPrevX() - drawOffsetX,
+				(int) e.getPrevY() - drawOffsetY + push, width, height, (e.flipW() == -1 ? RenderSnapshot.FLIP_X : 0) | (e.isFlashing() ? RenderSnapshot.FLASH : 0));
+	}
+
+	private static int variantOf(Enemy e) {
+		return (e.flipW() == -1 ? SpriteVariants.MIRROR : 0) | (e.isFlashing() ? SpriteVariants.FLASH : 0);
+	}
+
+	/**
+	 * Merkt sich die Positionen aller aktiven Feinde zu Beginn des Ticks.
+	 */
+	public void storePrevPositions() {
+		for (Crabby c : currentLevel.getCrabs())
+			if (c.isActive())
+				c.storePrevPos();
+		for (Pinkstar p : currentLevel.getPinkstars())
+			if (p.isActive())
+				p.storePrevPos();
+		for (Shark s : currentLevel.getSharks())
+			if (s.isActive())
+				s.storePrevPos();
+	}
+
     // Methode zum Überprüfen, ob ein Angriffsquadrat einen Feind getroffen hat
 	public void checkEnemyHit(Rectangle2D.Float attackBox) {
 		for (Crabby c : currentLevel.getCrabs())
@@ -147,9 +197,9 @@ public class EnemyManager {
      * Lädt die Bilder der Feinde aus den Sprite-Atlanten.
      */
 	private void loadEnemyImgs() {
-		crabbyArr = getImgArr(LoadSave.GetSpriteAtlas(LoadSave.CRABBY_SPRITE), 9, 5, CRABBY_WIDTH_DEFAULT, CRABBY_HEIGHT_DEFAULT);
-		pinkstarArr = getImgArr(LoadSave.GetSpriteAtlas(LoadSave.PINKSTAR_ATLAS), 8, 5, PINKSTAR_WIDTH_DEFAULT, PINKSTAR_HEIGHT_DEFAULT);
-		sharkArr = getImgArr(LoadSave.GetSpriteAtlas(LoadSave.SHARK_ATLAS), 8, 5, SHARK_WIDTH_DEFAULT, SHARK_HEIGHT_DEFAULT);
+		crabbyIds = SpriteRegistry.register(LoadSave.CRABBY_SPRITE, getImgArr(LoadSave.GetSpriteAtlas(LoadSave.CRABBY_SPRITE), 9, 5, CRABBY_WIDTH_DEFAULT, CRABBY_HEIGHT_DEFAULT));
+		pinkstarIds = SpriteRegistry.register(LoadSave.PINKSTAR_ATLAS, getImgArr(LoadSave.GetSpriteAtlas(LoadSave.PINKSTAR_ATLAS), 8, 5, PINKSTAR_WIDTH_DEFAULT, PINKSTAR_HEIGHT_DEFAULT));
+		sharkIds = SpriteRegistry.register(LoadSave.SHARK_ATLAS, getImgArr(LoadSave.GetSpriteAtlas(LoadSave.SHARK_ATLAS), 8, 5, SHARK_WIDTH_DEFAULT, SHARK_HEIGHT_DEFAULT));
 	}
 	
 	/**
@@ -166,7 +216,7 @@ public class EnemyManager {
 		BufferedImage[][] tempArr = new BufferedImage[ySize][xSize];
 		for (int j = 0; j < tempArr.length; j++)
 			for (int i = 0; i < tempArr[j].length; i++)
-				tempArr[j][i] = atlas.getSubimage(i * spriteW, j * spriteH, spriteW, spriteH);
+				tempArr[j][i] = LoadSave.GetSubimage(atlas, i * spriteW, j * spriteH, spriteW, spriteH);
 		return tempArr;
 	}
 
@@ -3,6 +3,7 @@ package entities;
 import static utilz.Constants.Directions.DOWN;
 import static utilz.Constants.Directions.LEFT;
 import static utilz.Constants.Directions.UP;
+import static utilz.Constants.TICK_SCALE;
 import static utilz.HelpMethods.CanMoveHere;
 
 import java.awt.Color;
@@ -32,6 +33,9 @@ public abstract class Entity {
     protected float pushDrawOffset;
     protected int pushBackOffsetDir = UP;
 
+    // Hitbox-Position am Anfang des laufenden Ticks, für die Interpolation beim Zeichnen
+    protected float prevX, prevY;
+
     /**
      * Konstruktor für die Entity-Klasse.
      *
@@ -51,7 +55,7 @@ public abstract class Entity {
      * Aktualisiert den Zeichenversatz für den Rückschlageffekt.
      */
     protected void updatePushBackDrawOffset() {
-        float speed = 0.95f;
+        float speed = 0.95f * TICK_SCALE;
         float limit = -30f;
 
         if (pushBackOffsetDir == UP) {
@@ -124,6 +128,23 @@ public abstract class Entity {
         return hitbox;
     }
 
+    /**
+     * Merkt sich die aktuelle Hitbox-Position als Ausgangspunkt für die Interpolation.
+     * Wird zu Beginn jedes Ticks aufgerufen.
+     */
+    public void storePrevPos() {
+        prevX = hitbox.x;
+        prevY = hitbox.y;
+    }
+
+    public float getPrevX() {
+        return prevX;
+    }
+
+    public float getPrevY() {
+        return prevY;
+    }
+
     /**
      * Gibt den aktuellen Zustand der Entität zurück.
      *
@@ -1,6 +1,7 @@
 package entities;
 
 import static utilz.Constants.EnemyConstants.*;
+import static utilz.Constants.MillisToTicks;
 import static utilz.HelpMethods.CanMoveHere;
 import static utilz.HelpMethods.IsFloor;
 import static utilz.Constants.Directions.*;
@@ -15,7 +16,9 @@ public class Pinkstar extends Enemy {
     private boolean preRoll = true;
     private int tickSinceLastDmgToPlayer;
     private int tickAfterRollInIdle;
-    private int rollDurationTick, rollDuration = 300;
+    private int rollDurationTick, rollDuration = MillisToTicks(1500);
+    private final int idleDuration = MillisToTicks(600);
+    private final int dmgCooldown = MillisToTicks(300);
 
     /**
      * Konstruktor für die Pinkstar-Klasse.
@@ -49,13 +52,13 @@ public class Pinkstar extends Enemy {
             switch (state) {
                 case IDLE:
                     preRoll = true;
-                    if (tickAfterRollInIdle >= 120) {
+                    if (tickAfterRollInIdle >= idleDuration) {
                         if (IsFloor(hitbox, lvlData))
                             newState(RUNNING);
                         else
                             inAir = true;
                         tickAfterRollInIdle = 0;
-                        tickSinceLastDmgToPlayer = 60;
+                        tickSinceLastDmgToPlayer = dmgCooldown;
                     } else
                         tickAfterRollInIdle++;
                     break;
@@ -80,7 +83,7 @@ public class Pinkstar extends Enemy {
                     if (aniIndex <= GetSpriteAmount(enemyType, state) - 2)
                         pushBack(pushBackDir, lvlData, 2f);
                     updatePushBackDrawOffset();
-                    tickAfterRollInIdle = 120;
+                    tickAfterRollInIdle = idleDuration;
                     break;
             }
         }
@@ -88,7 +91,7 @@ public class Pinkstar extends Enemy {
 
     private void checkDmgToPlayer(Player player) {
         if (hitbox.intersects(player.getHitbox()))
-            if (tickSinceLastDmgToPlayer >= 60) {
+            if (tickSinceLastDmgToPlayer >= dmgCooldown) {
                 tickSinceLastDmgToPlayer = 0;
                 player.changeHealth(-GetEnemyDmg(enemyType), this);
             } else
@@ -6,6 +6,7 @@ import static utilz.Constants.*;
 import static utilz.Constants.Directions.*;
 import java.awt.Color;
 import java.awt.Graphics;
+import java.awt.Rectangle;
 import java.awt.Point;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
@@ -13,6 +14,9 @@ import java.awt.image.BufferedImage;
 import audio.AudioPlayer;
 import gamestates.Playing;
 import mainPackage.Game;
+import render.RenderSnapshot;
+import render.SpriteRegistry;
+import render.SpriteVariants;
 import utilz.LoadSave;
 
 /**
@@ -20,7 +24,7 @@ import utilz.LoadSave;
  */
 public class Player extends Entity {
 
-    private BufferedImage[][] animations;
+    private int[] animationIds;
     private boolean moving = false; // Gibt an, ob sich der Charakter bewegt
     private boolean attacking = false; // Gibt an, ob der Charakter angreift
     private boolean left, right, jump; // Bewegungsflags
@@ -29,8 +33,8 @@ public class Player extends Entity {
     private float yDrawOffset = 4 * Game.SCALE; // Y-Achsen-Zeichenoffset
 
     // Springen / Schwerkraft
-    private float jumpSpeed = -2.25f * Game.SCALE; // Geschwindigkeit für das Springen
-    private float fallSpeedAfterCollision = 0.5f * Game.SCALE; // Fallgeschwindigkeit nach der Kollision
+    private float jumpSpeed = -2.25f * Game.SCALE * TICK_SCALE; // Geschwindigkeit für das Springen
+    private float fallSpeedAfterCollision = 0.5f * Game.SCALE * TICK_SCALE; // Fallgeschwindigkeit nach der Kollision
 
     // StatusBarUI
     private BufferedImage statusBarImg; // Bild für die Statusleiste
@@ -56,14 +60,14 @@ public class Player extends Entity {
     private int powerValue = powerMaxValue; // Aktueller Energiestand
 
     // Weitere Variablen
-    private int flipX = 0; // X-Achse spiegeln
     private int flipW = 1; // W-Achse spiegeln
     private boolean attackChecked; // Flag für Angriffsüberprüfung
     private Playing playing; // Verweis auf den Spielkontext
     private int tileY = 0; // Kachelposition auf der Y-Achse
     private boolean powerAttackActive; // Gibt an, ob der Power-Angriff aktiv ist
     private int powerAttackTick; // Zähler für den Power-Angriff
-    private int powerGrowSpeed = 15; // Geschwindigkeit, mit der die Energie wächst
+    private int powerGrowSpeed = MillisToTicks(75); // Geschwindigkeit, mit der die Energie wächst
+    private int powerAttackDuration = MillisToTicks(175); // Dauer des Power-Angriffs
     private int powerGrowTick; // Zähler für das Wachsen der Energie
 
     /**
@@ -81,7 +85,7 @@ public class Player extends Entity {
         this.state = IDLE; // Spielerstatus auf IDLE (stillstehend) setzen.
         this.maxHealth = 100; // Maximale Gesundheit des Spielers festlegen.
         this.currentHealth = maxHealth; // Aktuelle Gesundheit auf maximale Gesundheit setzen.
-        this.walkSpeed = Game.SCALE * 1.0f; // Laufgeschwindigkeit des Spielers festlegen.
+        this.walkSpeed = Game.SCALE * 1.0f * TICK_SCALE; // Laufgeschwindigkeit des Spielers festlegen.
         loadAnimations(); // Animationen für den Spieler laden.
         initHitbox(20, 27); // Kollisionshitbox initialisieren.
         initAttackBox(); // Angriffshitbox initialisieren.
@@ -170,7 +174,7 @@ public class Player extends Entity {
 	        // Überprüft, ob der Power-Angriff aktiv ist.
 	        if (powerAttackActive) {
 	            powerAttackTick++;
-	            if (powerAttackTick >= 35) {
+	            if (powerAttackTick >= powerAttackDuration) {
 	                powerAttackTick = 0;
 	                powerAttackActive = false; // Deaktiviert den Power-Angriff nach einer bestimmten Zeitspanne.
 	            }
@@ -269,16 +273,41 @@ public class Player extends Entity {
 
     public void render(Graphics g, int lvlOffset) {
         // Zeichnet den Spieler auf dem Bildschirm.
-        g.drawImage(animations[state][aniIndex], (int) (hitbox.x - xDrawOffset) - lvlOffset + flipX, (int) (hitbox.y - yDrawOffset + (int) (pushDrawOffset)), width * flipW, height, null);
+        int variant = (flipW == -1 ? SpriteVariants.MIRROR : 0) | (isFlashing() ? SpriteVariants.FLASH : 0);
+        SpriteVariants.draw(g, animationIds[state], aniIndex, variant, (int) (hitbox.x - xDrawOffset) - lvlOffset, (int) (hitbox.y - yDrawOffset + (int) (pushDrawOffset)), width, height);
         // drawHitbox(g, lvlOffset);
         // drawAttackBox(g, lvlOffset);
-        drawUI(g);
     }
 
-    private void drawUI(Graphics g) {
+    /**
+     * Überträgt den Spieler in den Render-Snapshot und hinterlegt die aktuellen Breiten
+     * der Gesundheits- und Power-Leiste.
+     *
+     * @param s Der Snapshot, in den geschrieben wird.
+     */
+    public void submit(RenderSnapshot s) {
+        s.setLayer(RenderSnapshot.LAYER_PLAYER, 0);
+        s.add(animationIds[state], aniIndex, (int) (hitbox.x - xDrawOffset), (int) (hitbox.y - yDrawOffset + (int) (pushDrawOffset)), (int) (prevX - xDrawOffset),
+                (int) (prevY - yDrawOffset + (int) (pushDrawOffset)), width, height, (flipW == -1 ? RenderSnapshot.FLIP_X : 0) | (isFlashing() ? RenderSnapshot.FLASH : 0));
+        s.setStatusBar(healthWidth, powerWidth);
+    }
+
+    // Treffer-Blitz im ersten Frame der Treffer-Animation
+    private boolean isFlashing() {
+        return state == HIT && aniIndex == 0;
+    }
+
+    /**
+     * Zeichnet die Statusleiste mit den angegebenen Balkenbreiten.
+     *
+     * @param g           Die Grafikoberfläche.
+     * @param healthWidth Die Breite der Gesundheitsleiste in Pixeln.
+     * @param powerWidth  Die Breite der Power-Leiste in Pixeln.
+     */
+    public void drawUI(Graphics g, int healthWidth, int powerWidth) {
         // Zeichnet die UI-Elemente wie Gesundheits- und Power-Leiste.
         // Hintergrund für die UI
-        g.drawImage(statusBarImg, statusBarX, statusBarY, statusBarWidth, statusBarHeight, null);
+        g.drawImage(statusBarImg, statusBarX, statusBarY, null);
 
         // Gesundheitsleiste
         g.setColor(Color.red);
@@ -289,6 +318,23 @@ public class Player extends Entity {
         g.fillRect(powerBarXStart + statusBarX, powerBarYStart + statusBarY, powerWidth, powerBarHeight);
     }
 
+    /**
+     * Gibt die Fläche der Statusleiste samt Leisten zurück.
+     *
+     * @return Die Fläche in Spielkoordinaten.
+     */
+    public Rectangle getStatusBarBounds() {
+        return new Rectangle(statusBarX, statusBarY, statusBarWidth, statusBarHeight);
+    }
+
+    public int getHealthWidth() {
+        return healthWidth;
+    }
+
+    public int getPowerWidth() {
+        return powerWidth;
+    }
+
     private void updateAnimationTick() {
         // Aktualisiert den Animationsticker und überprüft, ob eine Animation abgeschlossen ist.
         aniTick++;
@@ -370,12 +416,10 @@ public class Player extends Entity {
 
         if (left && !right) {
             xSpeed -= walkSpeed;
-            flipX = width;
             flipW = -1;
         }
         if (right && !left) {
             xSpeed += walkSpeed;
-            flipX = 0;
             flipW = 1;
         }
 
@@ -490,12 +534,13 @@ public class Player extends Entity {
         // Lädt die Animationen des Spielers.
 
         BufferedImage img = LoadSave.GetSpriteAtlas(LoadSave.PLAYER_ATLAS);
-        animations = new BufferedImage[7][8];
+        BufferedImage[][] animations = new BufferedImage[7][8];
         for (int j = 0; j < animations.length; j++)
             for (int i = 0; i < animations[j].length; i++)
-                animations[j][i] = img.getSubimage(i * 64, j * 40, 64, 40);
+                animations[j][i] = LoadSave.GetSubimage(img, i * 64, j * 40, 64, 40);
+        animationIds = SpriteRegistry.register(LoadSave.PLAYER_ATLAS, animations);
 
-        statusBarImg = LoadSave.GetSpriteAtlas(LoadSave.STATUS_BAR);
+        statusBarImg = LoadSave.GetScaledImage(LoadSave.STATUS_BAR, statusBarWidth, statusBarHeight);
     }
 
     public void loadLvlData(int[][] lvlData) {
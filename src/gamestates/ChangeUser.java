@@ -1,12 +1,14 @@
 package gamestates;
 
 import java.awt.Graphics;
+import java.awt.Rectangle;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 import java.awt.image.BufferedImage;
 
 import javax.swing.JTextField;
 import mainPackage.Game;
+import render.Backbuffer;
 import ui.UserButton;
 import utilz.LoadSave;
 
@@ -20,6 +22,8 @@ public class ChangeUser extends State1 implements Statemethods {
     private int menuX, menuY, menuWidth, menuHeight;
 
     JTextField userName;
+    // Lage des Textfelds in Spielauflösung; im Fenster wird es mit der Spielfläche skaliert.
+    private static final Rectangle TEXT_FIELD_BOUNDS = new Rectangle((int) (335 * Game.SCALE), (int) (165 * Game.SCALE), 165, 25);
     String UserName;
     private Playing playing;
 
@@ -33,11 +37,12 @@ public class ChangeUser extends State1 implements Statemethods {
         super(game);
         this.playing = playing;
         userName = new JTextField(20);
-        userName.setBounds((int) (335 * Game.SCALE), (int) (165 * Game.SCALE), 165, 25);
-        game.getGamePanel().add(userName);
+        userName.setBounds(TEXT_FIELD_BOUNDS);
+        if (game.getGamePanel() != null)
+            game.getGamePanel().add(userName);
         loadButtons();
         loadBackground();
-        backgroundImgPink = LoadSave.GetSpriteAtlas(LoadSave.MENU_BACKGROUND_IMG);
+        backgroundImgPink = LoadSave.GetScaledImage(LoadSave.MENU_BACKGROUND_IMG, Game.GAME_WIDTH, Game.GAME_HEIGHT);
     }
 
     /**
@@ -67,6 +72,7 @@ public class ChangeUser extends State1 implements Statemethods {
         menuHeight = (int) (backgroundImg.getHeight() * Game.SCALE);
         menuX = Game.GAME_WIDTH / 2 - menuWidth / 2;
         menuY = (int) (25 * Game.SCALE);
+        backgroundImg = LoadSave.GetScaledImage(LoadSave.USER, menuWidth, menuHeight);
     }
 
     private void loadButtons() {
@@ -76,14 +82,15 @@ public class ChangeUser extends State1 implements Statemethods {
     @Override
     public void update() {
         for (UserButton mb : buttons)
-            mb.update();
+            if (mb.update())
+                game.getDirtyRegions().add(mb.getBounds());
         userName.setVisible(true);
     }
 
     @Override
     public void draw(Graphics g) {
-        g.drawImage(backgroundImgPink, 0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT, null);
-        g.drawImage(backgroundImg, menuX, menuY, menuWidth, menuHeight, null);
+        g.drawImage(backgroundImgPink, 0, 0, null);
+        g.drawImage(backgroundImg, menuX, menuY, null);
 
         for (UserButton mb : buttons)
             mb.draw(g);
@@ -118,6 +125,17 @@ public class ChangeUser extends State1 implements Statemethods {
         userName.setVisible(false);
     }
 
+    /**
+     * Legt das Textfeld passend zur skalierten Spielfläche im Fenster aus.
+     *
+     * @param backbuffer Der Puffer, der ins Fenster skaliert wird.
+     * @param width      Die Breite des Panels.
+     * @param height     Die Höhe des Panels.
+     */
+    public void layoutTextField(Backbuffer backbuffer, int width, int height) {
+        userName.setBounds(backbuffer.toScreen(TEXT_FIELD_BOUNDS, width, height));
+    }
+
     /**
      * Gibt das Textfeld für den Benutzernamen zurück.
      *
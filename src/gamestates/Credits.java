@@ -1,5 +1,8 @@
 package gamestates;
 
+import static utilz.Constants.ANI_SPEED;
+import static utilz.Constants.TICK_SCALE;
+
 import java.awt.Graphics;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
@@ -16,6 +19,9 @@ import utilz.LoadSave;
  */
 
 public class Credits extends State implements Statemethods {
+	// Vergrößerung der Figuren; die Frames werden einmal beim Laden skaliert
+	private static final int IDLE_ANI_SCALE = 4;
+
 	private BufferedImage backgroundImg, creditsImg;
 	private int bgX, bgY, bgW, bgH;
 	private float bgYFloat;
@@ -30,12 +36,13 @@ public class Credits extends State implements Statemethods {
      */
 	public Credits(Game game) {
 		super(game);
-		backgroundImg = LoadSave.GetSpriteAtlas(LoadSave.MENU_BACKGROUND_IMG);
+		backgroundImg = LoadSave.GetScaledImage(LoadSave.MENU_BACKGROUND_IMG, Game.GAME_WIDTH, Game.GAME_HEIGHT);
 		creditsImg = LoadSave.GetSpriteAtlas(LoadSave.CREDITS);
 		bgW = (int) (creditsImg.getWidth() * Game.SCALE);
 		bgH = (int) (creditsImg.getHeight() * Game.SCALE);
 		bgX = Game.GAME_WIDTH / 2 - bgW / 2;
 		bgY = Game.GAME_HEIGHT;
+		creditsImg = LoadSave.GetScaledImage(LoadSave.CREDITS, bgW, bgH);
 		loadEntities();
 	}
 
@@ -52,24 +59,28 @@ public class Credits extends State implements Statemethods {
 		entitiesList.add(new ShowEntity(getIdleAni(LoadSave.GetSpriteAtlas(LoadSave.SHARK_ATLAS), 8, 34, 30), (int) (Game.GAME_WIDTH * 0.8), (int) (Game.GAME_HEIGHT * 0.8)));
 	}
 
+	/**
+	 * Schneidet die Idle-Animation aus der ersten Zeile eines Atlas und skaliert jeden Frame
+	 * einmalig um {@link #IDLE_ANI_SCALE}, damit beim Zeichnen nur noch kopiert wird.
+	 */
 	private BufferedImage[] getIdleAni(BufferedImage atlas, int spritesAmount, int width, int height) {
 		BufferedImage[] arr = new BufferedImage[spritesAmount];
 		for (int i = 0; i < spritesAmount; i++)
-			arr[i] = atlas.getSubimage(width * i, 0, width, height);
+			arr[i] = LoadSave.ScaleImage(LoadSave.GetSubimage(atlas, width * i, 0, width, height), width * IDLE_ANI_SCALE, height * IDLE_ANI_SCALE);
 		return arr;
 	}
 
 	@Override
 	public void update() {
-		bgYFloat -= 0.2f;
+		bgYFloat -= 0.2f * TICK_SCALE;
 		for (ShowEntity se : entitiesList)
 			se.update();
 	}
 
 	@Override
 	public void draw(Graphics g) {
-		g.drawImage(backgroundImg, 0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT, null);
-		g.drawImage(creditsImg, bgX, (int) (bgY + bgYFloat), bgW, bgH, null);
+		g.drawImage(backgroundImg, 0, 0, null);
+		g.drawImage(creditsImg, bgX, (int) (bgY + bgYFloat), null);
 
 		for (ShowEntity se : entitiesList)
 			se.draw(g);
@@ -125,13 +136,13 @@ public class Credits extends State implements Statemethods {
 	     * @param g Der Grafikkontext, auf dem die Figur gezeichnet wird.
 	     */
 		public void draw(Graphics g) {
-			g.drawImage(idleAnimation[aniIndex], x, y, (int) (idleAnimation[aniIndex].getWidth() * 4), (int) (idleAnimation[aniIndex].getHeight() * 4), null);
+			g.drawImage(idleAnimation[aniIndex], x, y, null);
 		}
 
 		//Aktualisierung
 		public void update() {
 			aniTick++;
-			if (aniTick >= 25) {
+			if (aniTick >= ANI_SPEED) {
 				aniTick = 0;
 				aniIndex++;
 				if (aniIndex >= idleAnimation.length)
@@ -45,13 +45,14 @@ public class GameOptions extends State implements Statemethods {
 	 * Lädt die Hintergrundbilder für den Optionsbildschirm.
 	 */
 	private void loadImgs() {
-	    backgroundImg = LoadSave.GetSpriteAtlas(LoadSave.MENU_BACKGROUND_IMG);
+	    backgroundImg = LoadSave.GetScaledImage(LoadSave.MENU_BACKGROUND_IMG, Game.GAME_WIDTH, Game.GAME_HEIGHT);
 	    optionsBackgroundImg = LoadSave.GetSpriteAtlas(LoadSave.OPTIONS_MENU);
 
 	    bgW = (int) (optionsBackgroundImg.getWidth() * Game.SCALE);
 	    bgH = (int) (optionsBackgroundImg.getHeight() * Game.SCALE);
 	    bgX = Game.GAME_WIDTH / 2 - bgW / 2;
 	    bgY = (int) (33 * Game.SCALE);
+	    optionsBackgroundImg = LoadSave.GetScaledImage(LoadSave.OPTIONS_MENU, bgW, bgH);
 	}
 
 	/**
@@ -59,8 +60,9 @@ public class GameOptions extends State implements Statemethods {
 	 */
 	@Override
 	public void update() {
-	    menuB.update();
-	    audioOptions.update();
+	    if (menuB.update())
+	        game.getDirtyRegions().add(menuB.getBounds());
+	    audioOptions.update(game.getDirtyRegions());
 	}
 
 	/**
@@ -70,8 +72,8 @@ public class GameOptions extends State implements Statemethods {
 	 */
 	@Override
 	public void draw(Graphics g) {
-	    g.drawImage(backgroundImg, 0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT, null);
-	    g.drawImage(optionsBackgroundImg, bgX, bgY, bgW, bgH, null);
+	    g.drawImage(backgroundImg, 0, 0, null);
+	    g.drawImage(optionsBackgroundImg, bgX, bgY, null);
 
 	    menuB.draw(g);
 	    audioOptions.draw(g);
@@ -108,7 +110,7 @@ public class GameOptions extends State implements Statemethods {
 	public void mouseReleased(MouseEvent e) {
 	    if (isIn(e, menuB)) {
 	        if (menuB.isMousePressed())
-	            Gamestate.state = Gamestate.MENU;
+	            game.setGamestate(Gamestate.MENU);
 	    } else
 	        audioOptions.mouseReleased(e);
 	    menuB.resetBools();
@@ -137,7 +139,7 @@ public class GameOptions extends State implements Statemethods {
 	@Override
 	public void keyPressed(KeyEvent e) {
 	    if (e.getKeyCode() == KeyEvent.VK_ESCAPE)
-	        Gamestate.state = Gamestate.MENU;
+	        game.setGamestate(Gamestate.MENU);
 	}
 
 	/**
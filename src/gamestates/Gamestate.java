@@ -11,7 +11,6 @@ public enum Gamestate {
     CREDITS, // Credits
     USER;    // Benutzerdefinierter Zustand (kann angepasst werden)
 
-    // Statische Variable zur Speicherung des aktuellen Spielzustands
-    public static Gamestate state = USER; // Initialisiert mit dem Benutzerzustand
+    // Der aktuelle Zustand gehört zur jeweiligen Spielinstanz, siehe Game.getGamestate()
 
 }
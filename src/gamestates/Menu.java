@@ -32,7 +32,7 @@ public class Menu extends State implements Statemethods {
         super(game);
         loadButtons(); // Menüschaltflächen initialisieren
         loadBackground(); // Hintergrundbilder laden
-        backgroundImgPink = LoadSave.GetSpriteAtlas(LoadSave.MENU_BACKGROUND_IMG);
+        backgroundImgPink = LoadSave.GetScaledImage(LoadSave.MENU_BACKGROUND_IMG, Game.GAME_WIDTH, Game.GAME_HEIGHT);
     }
 
     /**
@@ -44,6 +44,7 @@ public class Menu extends State implements Statemethods {
         menuHeight = (int) (backgroundImg.getHeight() * Game.SCALE);
         menuX = Game.GAME_WIDTH / 2 - menuWidth / 2;
         menuY = (int) (25 * Game.SCALE);
+        backgroundImg = LoadSave.GetScaledImage(LoadSave.MENU_BACKGROUND, menuWidth, menuHeight);
     }
 
     /**
@@ -63,7 +64,8 @@ public class Menu extends State implements Statemethods {
     @Override
     public void update() {
         for (MenuButton mb : buttons)
-            mb.update();
+            if (mb.update())
+                game.getDirtyRegions().add(mb.getBounds());
     }
 
     /**
@@ -73,8 +75,8 @@ public class Menu extends State implements Statemethods {
      */
     @Override
     public void draw(Graphics g) {
-        g.drawImage(backgroundImgPink, 0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT, null);
-        g.drawImage(backgroundImg, menuX, menuY, menuWidth, menuHeight, null);
+        g.drawImage(backgroundImgPink, 0, 0, null);
+        g.drawImage(backgroundImg, menuX, menuY, null);
 
         for (MenuButton mb : buttons)
             mb.draw(g);
@@ -104,7 +106,7 @@ public class Menu extends State implements Statemethods {
         for (MenuButton mb : buttons) {
             if (isIn(e, mb)) {
                 if (mb.isMousePressed())
-                    mb.applyGamestate();
+                    mb.applyGamestate(game);
                 if (mb.getState() == Gamestate.PLAYING)
                     game.getAudioPlayer().setLevelSong(game.getPlaying().getLevelManager().getLevelIndex());
                 break;
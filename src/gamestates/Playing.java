@@ -8,7 +8,6 @@ import java.awt.event.MouseEvent;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 import java.awt.geom.Rectangle2D;
-import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -21,15 +20,24 @@ import java.util.List;
 
 import entities.EnemyManager;
 import entities.Player;
+import inputs.PlayerInput;
+import inputs.Replay;
 import levels.LevelManager;
 import mainPackage.Game;
 import mainPackage.GameTimer;
+import mainPackage.QualityGovernor;
 import objects.ObjectManager;
+import render.RenderSnapshot;
+import render.SnapshotBuffer;
+import render.SoftwareRasterizer;
 import ui.GameCompletedOverlay;
+import ui.HudLayer;
 import ui.GameOverOverlay;
 import ui.LevelCompletedOverlay;
+import ui.OverlayCache;
 import ui.PauseOverlay;
 import utilz.LoadSave;
+import effects.ParallaxBackground;
 import effects.Rain;
 
 import static mainPackage.Game.GAME_WIDTH;
@@ -45,6 +53,11 @@ public class Playing extends State implements Statemethods {
 	private boolean displayMessage;
     private long messageDisplayStartTime;
     private final long MESSAGE_DISPLAY_DURATION = 15_000; // 10 seconds
+	// Hinweistext zur Steuerung; Schrift und Zeilen werden einmal angelegt. Er wird direkt gezeichnet,
+	// da Java2D die Glyphen ohnehin zwischenspeichert und eine transparente Textebene teurer wäre.
+	private static final Font MESSAGE_FONT = new Font("Arial", Font.PLAIN, 15);
+	private static final String[] MESSAGE_LINES = { "Bewegung:     <- S | D ->", "Springen:     Space Taste", "Angreifen:     Mausklick" };
+	private static final int MESSAGE_X = GAME_WIDTH / 2 - 100, MESSAGE_Y = 30, MESSAGE_LINE_HEIGHT = 20;
     
 	private Player player;
 	private LevelManager levelManager;
@@ -56,16 +69,37 @@ public class Playing extends State implements Statemethods {
 	private LevelCompletedOverlay levelCompletedOverlay;
 	private Rain rain;
 
+	// Overlay-Kennungen im Render-Snapshot
+	private static final int OVERLAY_NONE = 0, OVERLAY_PAUSE = 1, OVERLAY_GAME_OVER = 2, OVERLAY_LVL_COMPLETED = 3, OVERLAY_GAME_COMPLETED = 4;
+	private final SnapshotBuffer snapshots;
+	// Das zuletzt gesehene Overlay; die laufende Nummer zählt jedes Öffnen für den Overlay-Cache
+	private int overlay = OVERLAY_NONE, overlaySerial;
+	private final OverlayCache overlayCache = new OverlayCache();
+	// Statusleiste samt Leisten als zwischengespeicherte Ebene
+	private HudLayer hud;
+	// Einträge des zuletzt veröffentlichten Snapshots, wie viele davon außerhalb des Bildes lagen
+	// und wie oft beim Zeichnen die Textur wechselt, sortiert und in Einreichungsreihenfolge
+	private int snapshotSprites, snapshotCulled, snapshotBatches, snapshotUnsortedBatches;
+
 	private boolean paused = false;
 
-	private int xLvlOffset;
+	private int xLvlOffset, prevXLvlOffset;
 	private int leftBorder = (int) (0.25 * Game.GAME_WIDTH);
 	private int rightBorder = (int) (0.75 * Game.GAME_WIDTH);
 	private int maxLvlOffsetX;
 
-	private BufferedImage backgroundImg;
+	// Hintergrund in drei Streifen: Himmel mit Hügeln, Büsche, Erdboden; Grenzen als Anteil der Bildhöhe
+	private static final float[] BACKGROUND_BANDS = { 220 / 360f, 273 / 360f };
+	private static final float[] BACKGROUND_RATES = { 0.1f, 0.25f, 0.4f };
+	private ParallaxBackground background;
 
 	private Random rnd = new Random();
+	private long seed;
+
+	// Eingaben werden pro Tick gelesen, aufgezeichnet bzw. aus einem Replay abgespielt.
+	private final PlayerInput input = new PlayerInput();
+	private Replay recording;
+	private Replay playback;
 
 	private boolean gameOver;
 	private boolean lvlCompleted;
@@ -86,6 +120,7 @@ public class Playing extends State implements Statemethods {
      */
 	public Playing(Game game) {
 		super(game);
+		this.snapshots = game.getSnapshotBuffer();
 		this.gameTimer = new GameTimer();
 		displayMessage = true;
         messageDisplayStartTime = System.currentTimeMillis();
@@ -98,6 +133,7 @@ public class Playing extends State implements Statemethods {
 	        @Override
 	        public void windowClosing(WindowEvent e) {
 	            gameTimer.endGame();  // End the timer
+	            saveRecording();
 	            System.out.println("You are in level : " + levelManager.getLevelIndex() + 1);
 	            System.exit(0);  // Exit the application
 	        }
@@ -111,12 +147,64 @@ public class Playing extends State implements Statemethods {
      */
 	public void setUserName(String userName) {
         this.userName = userName;
-        this.levelIndex = getLevelIndex(userName);
-        this.levelManager = new LevelManager(game, levelIndex);
         GameEnd();
-        initClasses(); // Initialize the classes here
-        backgroundImg = LoadSave.GetSpriteAtlas(LoadSave.PLAYING_BG_IMG);
+        String replayFile = System.getProperty("game.replay");
+        if (replayFile != null)
+            playReplay(loadReplay(replayFile));
+        else {
+            startSession(getLevelIndex(userName));
+            if (System.getProperty("game.record") != null)
+                startRecording();
+        }
         game.getGamePanel().requestFocusInWindow();
+    }
+
+	private Replay loadReplay(String file) {
+		try {
+			return Replay.load(Paths.get(file));
+		} catch (IOException e) {
+			throw new IllegalStateException("Replay konnte nicht geladen werden: " + file, e);
+		}
+	}
+
+	private void saveRecording() {
+		String file = System.getProperty("game.record");
+		if (recording == null || file == null)
+			return;
+		try {
+			recording.save(Paths.get(file));
+			System.out.println("Replay gespeichert: " + file + " (" + recording.getTickCount() + " Ticks)");
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+     * Initialisiert die Spielklassen und lädt das angegebene Level, ohne auf Benutzerdaten,
+     * Fenster oder Eingabefokus zuzugreifen. Wird auch im Headless-Modus verwendet.
+     *
+     * @param levelIndex Der Index des Levels, mit dem begonnen wird.
+     */
+	public void startSession(int levelIndex) {
+		startSession(levelIndex, System.nanoTime());
+	}
+
+	/**
+	 * Startet eine Spielsitzung mit festem Startwert für alle Zufallsgeneratoren der Simulation,
+	 * so dass gleiche Eingaben zum gleichen Spielverlauf führen.
+	 *
+	 * @param levelIndex Der Index des Levels, mit dem begonnen wird.
+	 * @param seed       Der Startwert der Zufallsgeneratoren.
+	 */
+	public void startSession(int levelIndex, long seed) {
+        this.levelIndex = levelIndex;
+        this.seed = seed;
+        rnd = new Random(seed);
+        game.getAudioPlayer().setSeed(seed);
+        recording = null;
+        playback = null;
+        initClasses(); // Initialize the classes here
+        background = ParallaxBackground.fromBands(LoadSave.PLAYING_BG_IMG, BACKGROUND_BANDS, BACKGROUND_RATES);
         calcLvlOffset(); // Calculate the level offset here
         loadStartLevel(); // Load the start level here
         setDrawRainBoolean();
@@ -147,7 +235,8 @@ public class Playing extends State implements Statemethods {
 	public void loadNextLevel() {
 		levelManager.setLevelIndex(levelManager.getLevelIndex() + 1);
 		// Write the new level index to the file
-        writeLevel(userName, levelManager.getLevelIndex());
+		if (userName != null)
+			writeLevel(userName, levelManager.getLevelIndex());
 		levelManager.loadNextLevel();
 		player.setSpawn(levelManager.getCurrentLevel().getPlayerSpawn());
 		resetAll();
@@ -166,9 +255,9 @@ public class Playing extends State implements Statemethods {
 		gameTimer.startGame();
 
 		if (levelIndex != 0) {
-			levelManager = new LevelManager(game, levelIndex);
+			levelManager = new LevelManager(game, levelIndex, rnd);
 		}else {
-			levelManager = new LevelManager(game, 0);
+			levelManager = new LevelManager(game, 0, rnd);
 		}
 		enemyManager = new EnemyManager(this);
 		objectManager = new ObjectManager(this);
@@ -177,19 +266,22 @@ public class Playing extends State implements Statemethods {
 		player.loadLvlData(levelManager.getCurrentLevel().getLevelData());
 		player.setSpawn(levelManager.getCurrentLevel().getPlayerSpawn());
 
+		hud = new HudLayer(player.getStatusBarBounds());
+
 		pauseOverlay = new PauseOverlay(this);
 		gameOverOverlay = new GameOverOverlay(this);
 		levelCompletedOverlay = new LevelCompletedOverlay(this);
 		gameCompletedOverlay = new GameCompletedOverlay(this);
 
-		rain = new Rain();
+		// Eigener Generator, damit die Regendichte den Spielverlauf nicht beeinflusst
+		rain = new Rain(new Random(rnd.nextLong()));
 	}
 
 	@Override
 	public void update() {
-		
-		
-		
+		storePrevPositions();
+		applyInput(nextInput());
+
 		if (paused) {
 			pauseOverlay.update();
 		}
@@ -208,6 +300,9 @@ public class Playing extends State implements Statemethods {
 		else if (playerDying)
 			player.update();
 		else {
+			QualityGovernor quality = game.getQualityGovernor();
+			rain.setDensity(quality.getRainDensity());
+			objectManager.setTreeAnimation(quality.isTreeAnimation());
 			if (drawRain)
 				rain.update(xLvlOffset);
 			levelManager.update();
@@ -224,6 +319,150 @@ public class Playing extends State implements Statemethods {
                 // Other logic after the message display duration...
             }
 		}
+
+		trackOverlay();
+		if (snapshots != null)
+			publishSnapshot();
+	}
+
+	/**
+	 * Bestimmt das aktuell offene Overlay und vergibt beim Öffnen eines Overlays eine neue
+	 * laufende Nummer, damit der Overlay-Cache die eingefrorene Szene neu aufnimmt.
+	 *
+	 * @return Die Kennung des Overlays.
+	 */
+	private int trackOverlay() {
+		int current = OVERLAY_NONE;
+		if (paused)
+			current = OVERLAY_PAUSE;
+		else if (gameOver)
+			current = OVERLAY_GAME_OVER;
+		else if (lvlCompleted)
+			current = OVERLAY_LVL_COMPLETED;
+		else if (gameCompleted)
+			current = OVERLAY_GAME_COMPLETED;
+		if (current != overlay) {
+			overlay = current;
+			overlaySerial++;
+		}
+		return current;
+	}
+
+	/**
+	 * Schreibt den Zustand des abgeschlossenen Ticks in den Render-Snapshot und veröffentlicht ihn.
+	 * Läuft auf dem Spiel-Thread; der Render-Thread liest danach nur noch den Snapshot.
+	 */
+	private void publishSnapshot() {
+		int decorationMargin = game.getQualityGovernor().getDecorationMargin();
+		RenderSnapshot s = snapshots.beginWrite();
+		s.setScene(xLvlOffset, prevXLvlOffset, levelManager.getLevelIndex(), levelManager.getWaterIndex());
+		if (drawRain)
+			rain.submit(s);
+		objectManager.submit(s);
+		enemyManager.submit(s);
+		player.submit(s);
+		objectManager.submitBackgroundTrees(s, decorationMargin);
+
+		s.setOverlay(overlay, overlaySerial, displayMessage);
+		s.sort();
+		snapshotSprites = s.size();
+		snapshotCulled = s.getCulled();
+		snapshotBatches = s.getBatches();
+		snapshotUnsortedBatches = s.getUnsortedBatches();
+		snapshots.publish();
+	}
+
+	/**
+	 * Liest die Eingabemaske des Ticks, entweder aus dem laufenden Replay oder von Tastatur
+	 * und Maus, und zeichnet sie gegebenenfalls auf.
+	 */
+	private int nextInput() {
+		int mask;
+		if (playback != null) {
+			mask = playback.next();
+			if (!playback.hasNext()) {
+				playback = null;
+				input.restore(mask);
+			}
+		} else
+			mask = input.latch();
+
+		if (recording != null)
+			recording.record(mask);
+		return mask;
+	}
+
+	private void applyInput(int mask) {
+		if ((mask & PlayerInput.RESTART) != 0)
+			resetAll();
+		if ((mask & PlayerInput.NEXT_LEVEL) != 0) {
+			loadNextLevel();
+			game.getAudioPlayer().setLevelSong(levelManager.getLevelIndex());
+		}
+
+		paused = (mask & PlayerInput.PAUSED) != 0;
+		player.setLeft((mask & PlayerInput.LEFT) != 0);
+		player.setRight((mask & PlayerInput.RIGHT) != 0);
+		player.setJump((mask & PlayerInput.JUMP) != 0);
+		if ((mask & PlayerInput.ATTACK) != 0)
+			player.setAttacking(true);
+		if ((mask & PlayerInput.POWER_ATTACK) != 0)
+			player.powerAttack();
+	}
+
+	/**
+	 * Beginnt, die Eingaben der laufenden Sitzung aufzuzeichnen. Sollte direkt nach
+	 * {@link #startSession(int, long)} aufgerufen werden.
+	 */
+	public void startRecording() {
+		recording = new Replay(seed, levelIndex, Game.UPS_SET);
+	}
+
+	/**
+	 * Beendet die Aufzeichnung.
+	 *
+	 * @return Die bisherige Aufzeichnung, oder null, wenn nicht aufgezeichnet wurde.
+	 */
+	public Replay stopRecording() {
+		Replay r = recording;
+		recording = null;
+		return r;
+	}
+
+	/**
+	 * Startet eine neue Sitzung mit Level und Startwert des Replays und spielt dessen Eingaben
+	 * Tick für Tick ab. Danach geht die Steuerung wieder an Tastatur und Maus.
+	 *
+	 * @param replay Die abzuspielende Aufzeichnung.
+	 * @throws IllegalArgumentException Wenn das Replay mit einer anderen Update-Rate aufgezeichnet wurde.
+	 */
+	public void playReplay(Replay replay) {
+		if (replay.getUps() != Game.UPS_SET)
+			throw new IllegalArgumentException("Replay wurde mit " + replay.getUps() + " UPS aufgezeichnet, gestartet mit -Dgame.ups=" + replay.getUps() + " wiederholen");
+		startSession(replay.getLevelIndex(), replay.getSeed());
+		replay.rewind();
+		if (replay.hasNext())
+			playback = replay;
+	}
+
+	/**
+	 * Prüft, ob gerade ein Replay abgespielt wird.
+	 *
+	 * @return true, solange noch aufgezeichnete Ticks übrig sind.
+	 */
+	public boolean isPlayingBack() {
+		return playback != null;
+	}
+
+	/**
+	 * Merkt sich Kamera und bewegliche Objekte vom Beginn des Ticks, damit der Renderer
+	 * zwischen zwei Ticks interpolieren kann.
+	 */
+	private void storePrevPositions() {
+		prevXLvlOffset = xLvlOffset;
+		player.storePrevPos();
+		enemyManager.storePrevPositions();
+		objectManager.storePrevPositions();
 	}
 
 	private void checkCloseToBorder() {
@@ -240,7 +479,25 @@ public class Playing extends State implements Statemethods {
 
 	@Override
 	public void draw(Graphics g) {
-		g.drawImage(backgroundImg, 0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT, null);
+		int current = trackOverlay();
+		if (current != OVERLAY_NONE)
+			overlayCache.draw(g, overlaySerial, cg -> {
+				drawScene(cg);
+				drawHud(cg, player.getHealthWidth(), player.getPowerWidth());
+				drawOverlayBackground(cg, current);
+			});
+		else {
+			drawScene(g);
+			drawHud(g, player.getHealthWidth(), player.getPowerWidth());
+		}
+		drawOverlayButtons(g, current);
+
+		if (displayMessage)
+			drawMessage(g);
+	}
+
+	private void drawScene(Graphics g) {
+		background.draw(g, xLvlOffset);
 
 		if (drawRain)
 			rain.draw(g, xLvlOffset);
@@ -250,33 +507,141 @@ public class Playing extends State implements Statemethods {
 		enemyManager.draw(g, xLvlOffset);
 		player.render(g, xLvlOffset);
 		objectManager.drawBackgroundTrees(g, xLvlOffset);
+	}
 
-		if (paused) {
-			g.setColor(new Color(0, 0, 0, 150));
-			g.fillRect(0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT);
-			pauseOverlay.draw(g);
-		} else if (gameOver)
-			gameOverOverlay.draw(g);
-		else if (lvlCompleted)
-			levelCompletedOverlay.draw(g);
-		else if (gameCompleted)
-			gameCompletedOverlay.draw(g);
-		
-		
-		//show message  links rechts usw
-		if (displayMessage) {
-      
-            int lineHeight = 20; // Adjust this value based on your font size and spacing
-            int centerX = GAME_WIDTH / 2;
-            g.setColor(Color.BLACK);
-            g.setFont(new Font("Arial", Font.PLAIN, 15)); // Adjust 30 to your preferred font size
-            g.drawString("Bewegung:     <- S | D ->", centerX - 100, 30);
-            g.drawString("Springen:     Space Taste", centerX - 100, 30 + lineHeight);
-            g.drawString("Angreifen:     Mausklick", centerX - 100, 30 + 2*lineHeight);
+	/**
+	 * Zeichnet die Szene ausschließlich aus einem Render-Snapshot, ohne Spieler, Feinde oder
+	 * Objekte zu lesen, die der Spiel-Thread gleichzeitig verändert. Bei offenem Overlay kommen
+	 * Szene und Abdunklung aus dem {@link OverlayCache}.
+	 *
+	 * @param g     Die Grafikoberfläche.
+	 * @param s     Der zuletzt veröffentlichte Snapshot.
+	 * @param alpha Der Interpolationsanteil zwischen vorletztem (0) und letztem Tick (1).
+	 */
+	public void drawSnapshot(Graphics g, RenderSnapshot s, float alpha) {
+		drawSnapshot(g, s, alpha, null);
+	}
 
+	/**
+	 * Zeichnet die Szene aus einem Render-Snapshot wie {@link #drawSnapshot(Graphics, RenderSnapshot, float)};
+	 * ohne offenes Overlay werden Hintergrund, Kacheln und Sprites dabei vom
+	 * {@link SoftwareRasterizer} gezeichnet. Statusleiste und Overlays bleiben bei Java2D.
+	 *
+	 * @param g      Die Grafikoberfläche.
+	 * @param s      Der zuletzt veröffentlichte Snapshot.
+	 * @param alpha  Der Interpolationsanteil zwischen vorletztem (0) und letztem Tick (1).
+	 * @param raster Der Software-Renderer oder null für Java2D.
+	 */
+	public void drawSnapshot(Graphics g, RenderSnapshot s, float alpha, SoftwareRasterizer raster) {
+		if (s.getTick() == 0) {
+			background.draw(g, s.getXLvlOffset());
+			return;
+		}
 
-        }
+		int current = s.getOverlay();
+		if (current != OVERLAY_NONE)
+			overlayCache.draw(g, s.getOverlaySerial(), cg -> {
+				drawSnapshotScene(cg, s, alpha);
+				drawHud(cg, s.getHealthWidth(), s.getPowerWidth());
+				drawOverlayBackground(cg, current);
+			});
+		else {
+			if (raster != null)
+				rasterizeSnapshotScene(raster, g, s, alpha);
+			else
+				drawSnapshotScene(g, s, alpha);
+			drawHud(g, s.getHealthWidth(), s.getPowerWidth());
+		}
+		drawOverlayButtons(g, current);
+
+		if (s.isMessageShown())
+			drawMessage(g);
+	}
+
+	private void drawSnapshotScene(Graphics g, RenderSnapshot s, float alpha) {
+		background.draw(g, s.getXLvlOffset(alpha));
+		s.draw(g, 0, s.getTileLayer(), alpha);
+		levelManager.draw(g, s.getXLvlOffset(alpha), s.getLevelIndex(), s.getWaterIndex());
+		s.draw(g, s.getTileLayer(), s.size(), alpha);
+	}
+
+	private void rasterizeSnapshotScene(SoftwareRasterizer r, Graphics g, RenderSnapshot s, float alpha) {
+		r.begin();
+		background.rasterize(r, s.getXLvlOffset(alpha));
+		s.rasterize(r, 0, s.getTileLayer(), alpha);
+		levelManager.rasterize(r, s.getXLvlOffset(alpha), s.getLevelIndex(), s.getWaterIndex());
+		s.rasterize(r, s.getTileLayer(), s.size(), alpha);
+		r.flush(g);
+	}
+
+	/**
+	 * Zeichnet die Statusleiste aus der HUD-Ebene; neu gezeichnet wird sie nur, wenn sich eine
+	 * Leistenbreite ändert.
+	 */
+	private void drawHud(Graphics g, int healthWidth, int powerWidth) {
+		hud.draw(g, ((long) healthWidth << 32) | powerWidth, lg -> player.drawUI(lg, healthWidth, powerWidth));
+	}
+
+	private void drawOverlayBackground(Graphics g, int overlay) {
+		switch (overlay) {
+		case OVERLAY_PAUSE:
+			pauseOverlay.drawBackground(g);
+			break;
+		case OVERLAY_GAME_OVER:
+			gameOverOverlay.drawBackground(g);
+			break;
+		case OVERLAY_LVL_COMPLETED:
+			levelCompletedOverlay.drawBackground(g);
+			break;
+		case OVERLAY_GAME_COMPLETED:
+			gameCompletedOverlay.drawBackground(g);
+			break;
+		}
+	}
 
+	private void drawOverlayButtons(Graphics g, int overlay) {
+		switch (overlay) {
+		case OVERLAY_PAUSE:
+			pauseOverlay.drawButtons(g);
+			break;
+		case OVERLAY_GAME_OVER:
+			gameOverOverlay.drawButtons(g);
+			break;
+		case OVERLAY_LVL_COMPLETED:
+			levelCompletedOverlay.drawButtons(g);
+			break;
+		case OVERLAY_GAME_COMPLETED:
+			gameCompletedOverlay.drawButtons(g);
+			break;
+		}
+	}
+
+	/**
+	 * Gibt den Cache für die Szene hinter geöffneten Overlays zurück.
+	 *
+	 * @return Der Overlay-Cache.
+	 */
+	public OverlayCache getOverlayCache() {
+		return overlayCache;
+	}
+
+	/**
+	 * Gibt an, wie viele Befehle der letzte Snapshot enthält, wie viele das Culling außerhalb des
+	 * Bildausschnitts verworfen hat und in wie vielen Batches sie gezeichnet werden.
+	 *
+	 * @return Die Zusammenfassung.
+	 */
+	public String getRenderQueueReport() {
+		return String.format("Render-Queue: %d Befehle/Tick, %d ausgelassen, %d Batches (unsortiert %d)", snapshotSprites, snapshotCulled, snapshotBatches,
+				snapshotUnsortedBatches);
+	}
+
+	//show message  links rechts usw
+	private void drawMessage(Graphics g) {
+		g.setColor(Color.BLACK);
+		g.setFont(MESSAGE_FONT);
+		for (int i = 0; i < MESSAGE_LINES.length; i++)
+			g.drawString(MESSAGE_LINES[i], MESSAGE_X, MESSAGE_Y + i * MESSAGE_LINE_HEIGHT);
 	}
 
 	public void setGameCompleted() {
@@ -293,6 +658,7 @@ public class Playing extends State implements Statemethods {
 		lvlCompleted = false;
 		playerDying = false;
 		drawRain = false;
+		input.set(PlayerInput.PAUSED, false);
 
 		setDrawRainBoolean();
 
@@ -331,9 +697,9 @@ public class Playing extends State implements Statemethods {
 	public void mouseClicked(MouseEvent e) {
 		if (!gameOver) {
 			if (e.getButton() == MouseEvent.BUTTON1)
-				player.setAttacking(true);
+				input.fire(PlayerInput.ATTACK);
 			else if (e.getButton() == MouseEvent.BUTTON3)
-				player.powerAttack();
+				input.fire(PlayerInput.POWER_ATTACK);
 		}
 	}
 
@@ -342,17 +708,17 @@ public class Playing extends State implements Statemethods {
 		if (!gameOver && !gameCompleted && !lvlCompleted)
 			switch (e.getKeyCode()) {
 			case KeyEvent.VK_S:
-				player.setLeft(true);
+				input.set(PlayerInput.LEFT, true);
 				break;
 			case KeyEvent.VK_D:
 
-				player.setRight(true);
+				input.set(PlayerInput.RIGHT, true);
 				break;
 			case KeyEvent.VK_SPACE:
-				player.setJump(true);
+				input.set(PlayerInput.JUMP, true);
 				break;
 			case KeyEvent.VK_ESCAPE:
-				paused = !paused;
+				input.toggle(PlayerInput.PAUSED);
 			}
 	}
 
@@ -361,13 +727,13 @@ public class Playing extends State implements Statemethods {
 		if (!gameOver && !gameCompleted && !lvlCompleted)
 			switch (e.getKeyCode()) {
 			case KeyEvent.VK_S:
-				player.setLeft(false);
+				input.set(PlayerInput.LEFT, false);
 				break;
 			case KeyEvent.VK_D:
-				player.setRight(false);
+				input.set(PlayerInput.RIGHT, false);
 				break;
 			case KeyEvent.VK_SPACE:
-				player.setJump(false);
+				input.set(PlayerInput.JUMP, false);
 				break;
 			}
 	}
@@ -428,16 +794,44 @@ public class Playing extends State implements Statemethods {
 		this.lvlCompleted = levelCompleted;
 	}
 
+	public boolean isGameOver() {
+		return gameOver;
+	}
+
+	public boolean isLevelCompleted() {
+		return lvlCompleted;
+	}
+
+	public boolean isGameCompleted() {
+		return gameCompleted;
+	}
+
 	public void setMaxLvlOffset(int lvlOffset) {
 		this.maxLvlOffsetX = lvlOffset;
 	}
 
 	public void unpauseGame() {
-		paused = false;
+		input.set(PlayerInput.PAUSED, false);
+	}
+
+	/**
+	 * Fordert einen Neustart des Levels an. Er wird zu Beginn des nächsten Ticks ausgeführt
+	 * und dabei aufgezeichnet.
+	 */
+	public void requestRestart() {
+		input.fire(PlayerInput.RESTART);
+	}
+
+	/**
+	 * Fordert den Wechsel ins nächste Level an. Er wird zu Beginn des nächsten Ticks ausgeführt
+	 * und dabei aufgezeichnet.
+	 */
+	public void requestNextLevel() {
+		input.fire(PlayerInput.NEXT_LEVEL);
 	}
 
 	public void windowFocusLost() {
-		player.resetDirBooleans();
+		input.releaseMovement();
 	}
 	
 	public int readLevel(String userName) {
@@ -484,6 +878,10 @@ public class Playing extends State implements Statemethods {
 
 
 
+	public PlayerInput getPlayerInput() {
+		return input;
+	}
+
 	public Player getPlayer() {
 		return player;
 	}
@@ -53,7 +53,7 @@ public class State {
             case PLAYING -> game.getAudioPlayer().setLevelSong(game.getPlaying().getLevelManager().getLevelIndex());
         }
 
-        Gamestate.state = state;
+        game.setGamestate(state);
     }
 
 }
@@ -52,7 +52,7 @@ public class State1 {
             case USER -> game.getAudioPlayer().playSong(AudioPlayer.MENU_1);
         }
 
-        Gamestate.state = state;
+        game.setGamestate(state);
     }
 
 }
@@ -26,7 +26,7 @@ public class KeyboardInputs implements KeyListener {
     @Override
     public void keyReleased(KeyEvent e) {
         // Behandelt das Loslassen einer Taste abhängig vom aktuellen Spielzustand.
-        switch (Gamestate.state) {
+        switch (gamePanel.getGame().getGamestate()) {
             case MENU -> gamePanel.getGame().getMenu().keyReleased(e);
             case PLAYING -> gamePanel.getGame().getPlaying().keyReleased(e);
             case CREDITS -> gamePanel.getGame().getCredits().keyReleased(e);
@@ -36,8 +36,19 @@ public class KeyboardInputs implements KeyListener {
     @SuppressWarnings("incomplete-switch")
     @Override
     public void keyPressed(KeyEvent e) {
+        // Screenshot und Aufnahme gelten in jedem Spielzustand.
+        switch (e.getKeyCode()) {
+            case KeyEvent.VK_F9 -> {
+                gamePanel.getGame().getFrameCapture().requestScreenshot();
+                return;
+            }
+            case KeyEvent.VK_F10 -> {
+                gamePanel.getGame().getFrameCapture().toggleRecording();
+                return;
+            }
+        }
         // Behandelt das Drücken einer Taste abhängig vom aktuellen Spielzustand.
-        switch (Gamestate.state) {
+        switch (gamePanel.getGame().getGamestate()) {
             case MENU -> gamePanel.getGame().getMenu().keyPressed(e);
             case PLAYING -> gamePanel.getGame().getPlaying().keyPressed(e);
             case OPTIONS -> gamePanel.getGame().getGameOptions().keyPressed(e);
@@ -6,6 +6,7 @@ import java.awt.event.MouseMotionListener;
 
 import gamestates.Gamestate;
 import mainPackage.GamePanel;
+import render.Backbuffer;
 
 /**
  * Die Klasse MouseInputs implementiert das MouseListener- und MouseMotionListener-Interface und reagiert auf Mausereignisse.
@@ -23,11 +24,24 @@ public class MouseInputs implements MouseListener, MouseMotionListener {
         this.gamePanel = gamePanel;
     }
 
+    /**
+     * Rechnet die Fensterkoordinaten eines Ereignisses in Spielkoordinaten um, da das Spiel in
+     * fester Auflösung gezeichnet und ins Fenster skaliert wird.
+     */
+    private MouseEvent toGame(MouseEvent e) {
+        Backbuffer backbuffer = gamePanel.getGame().getBackbuffer();
+        if (backbuffer == null)
+            return e;
+        return new MouseEvent(e.getComponent(), e.getID(), e.getWhen(), e.getModifiersEx(), backbuffer.toGameX(e.getX()), backbuffer.toGameY(e.getY()),
+                e.getClickCount(), e.isPopupTrigger(), e.getButton());
+    }
+
     @SuppressWarnings("incomplete-switch")
     @Override
     public void mouseDragged(MouseEvent e) {
+        e = toGame(e);
         // Behandelt das Ziehen der Maus abhängig vom aktuellen Spielzustand.
-        switch (Gamestate.state) {
+        switch (gamePanel.getGame().getGamestate()) {
             case PLAYING -> gamePanel.getGame().getPlaying().mouseDragged(e);
             case OPTIONS -> gamePanel.getGame().getGameOptions().mouseDragged(e);
         }
@@ -36,8 +50,9 @@ public class MouseInputs implements MouseListener, MouseMotionListener {
     @SuppressWarnings("incomplete-switch")
     @Override
     public void mouseMoved(MouseEvent e) {
+        e = toGame(e);
         // Behandelt die Bewegung der Maus abhängig vom aktuellen Spielzustand.
-        switch (Gamestate.state) {
+        switch (gamePanel.getGame().getGamestate()) {
             case MENU -> gamePanel.getGame().getMenu().mouseMoved(e);
             case USER -> gamePanel.getGame().getChangeUser().mouseMoved(e);
             case PLAYING -> gamePanel.getGame().getPlaying().mouseMoved(e);
@@ -48,8 +63,9 @@ public class MouseInputs implements MouseListener, MouseMotionListener {
     @SuppressWarnings("incomplete-switch")
     @Override
     public void mouseClicked(MouseEvent e) {
+        e = toGame(e);
         // Behandelt einen Mausklick abhängig vom aktuellen Spielzustand.
-        switch (Gamestate.state) {
+        switch (gamePanel.getGame().getGamestate()) {
             case PLAYING -> gamePanel.getGame().getPlaying().mouseClicked(e);
         }
     }
@@ -57,8 +73,9 @@ public class MouseInputs implements MouseListener, MouseMotionListener {
     @SuppressWarnings("incomplete-switch")
     @Override
     public void mousePressed(MouseEvent e) {
+        e = toGame(e);
         // Behandelt das Drücken der Maustaste abhängig vom aktuellen Spielzustand.
-        switch (Gamestate.state) {
+        switch (gamePanel.getGame().getGamestate()) {
             case MENU -> gamePanel.getGame().getMenu().mousePressed(e);
             case USER -> gamePanel.getGame().getChangeUser().mousePressed(e);
             case PLAYING -> gamePanel.getGame().getPlaying().mousePressed(e);
@@ -69,8 +86,9 @@ public class MouseInputs implements MouseListener, MouseMotionListener {
     @SuppressWarnings("incomplete-switch")
     @Override
     public void mouseReleased(MouseEvent e) {
+        e = toGame(e);
         // Behandelt das Loslassen der Maustaste abhängig vom aktuellen Spielzustand.
-        switch (Gamestate.state) {
+        switch (gamePanel.getGame().getGamestate()) {
             case MENU -> gamePanel.getGame().getMenu().mouseReleased(e);
             case USER -> gamePanel.getGame().getChangeUser().mouseReleased(e);
             case PLAYING -> gamePanel.getGame().getPlaying().mouseReleased(e);
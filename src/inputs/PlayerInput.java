@@ -0,0 +1,84 @@
+package inputs;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Die Klasse PlayerInput sammelt die Eingaben des Spielers als Bitmaske. Tastatur und Maus
+ * schreiben vom EDT hinein, der Spiel-Thread liest die Maske genau einmal zu Beginn jedes
+ * Ticks. So sieht die Simulation pro Tick einen festen Eingabezustand, der sich aufzeichnen
+ * und wieder abspielen lässt.
+ */
+public class PlayerInput {
+
+    // Gehaltene Zustände
+    public static final int LEFT = 1;
+    public static final int RIGHT = 1 << 1;
+    public static final int JUMP = 1 << 2;
+    public static final int PAUSED = 1 << 3;
+    // Einmalige Ereignisse, nach dem Auslesen gelöscht
+    public static final int ATTACK = 1 << 4;
+    public static final int POWER_ATTACK = 1 << 5;
+    public static final int RESTART = 1 << 6;
+    public static final int NEXT_LEVEL = 1 << 7;
+
+    private final AtomicInteger held = new AtomicInteger();
+    private final AtomicInteger events = new AtomicInteger();
+
+    /**
+     * Setzt oder löscht einen gehaltenen Zustand.
+     *
+     * @param bit     Der Zustand, z.B. {@link #LEFT}.
+     * @param pressed true, wenn der Zustand aktiv ist.
+     */
+    public void set(int bit, boolean pressed) {
+        if (pressed)
+            held.getAndUpdate(m -> m | bit);
+        else
+            held.getAndUpdate(m -> m & ~bit);
+    }
+
+    /**
+     * Schaltet einen gehaltenen Zustand um.
+     *
+     * @param bit Der Zustand, z.B. {@link #PAUSED}.
+     */
+    public void toggle(int bit) {
+        held.getAndUpdate(m -> m ^ bit);
+    }
+
+    /**
+     * Meldet ein einmaliges Ereignis für den nächsten Tick.
+     *
+     * @param bit Das Ereignis, z.B. {@link #ATTACK}.
+     */
+    public void fire(int bit) {
+        events.getAndUpdate(m -> m | bit);
+    }
+
+    /**
+     * Lässt alle Richtungs- und Sprungtasten los, z.B. wenn das Fenster den Fokus verliert.
+     */
+    public void releaseMovement() {
+        held.getAndUpdate(m -> m & ~(LEFT | RIGHT | JUMP));
+    }
+
+    /**
+     * Liest die Eingaben für den aktuellen Tick und löscht die einmaligen Ereignisse.
+     *
+     * @return Die Eingabemaske des Ticks.
+     */
+    public int latch() {
+        return held.get() | events.getAndSet(0);
+    }
+
+    /**
+     * Übernimmt die gehaltenen Zustände einer abgespielten Maske, damit nach dem Ende einer
+     * Wiedergabe mit diesem Zustand weitergespielt wird.
+     *
+     * @param mask Die zuletzt abgespielte Eingabemaske.
+     */
+    public void restore(int mask) {
+        held.set(mask & (LEFT | RIGHT | JUMP | PAUSED));
+        events.set(0);
+    }
+}
@@ -0,0 +1,169 @@
+package inputs;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Die Klasse Replay speichert eine Spielsitzung als Folge von Eingabemasken pro Tick, zusammen
+ * mit dem Startwert des Zufallsgenerators, dem Start-Level und der Update-Rate. Gleiche Masken
+ * in aufeinanderfolgenden Ticks werden lauflängenkodiert, eine Minute Spielzeit belegt daher
+ * meist nur wenige hundert Byte.
+ *
+ * Dateiformat (Big Endian): Kennung "G2DR", Version, Startwert, Level, UPS, Anzahl der Läufe,
+ * danach je Lauf ein Byte Maske und zwei Byte Länge.
+ */
+public class Replay {
+
+    private static final int MAGIC = 0x47324452; // "G2DR"
+    private static final int VERSION = 1;
+    private static final int MAX_RUN = 0xFFFF;
+
+    private final long seed;
+    private final int levelIndex;
+    private final int ups;
+
+    private byte[] masks = new byte[64];
+    private int[] runs = new int[64];
+    private int runCount;
+    private long tickCount;
+
+    // Position beim Abspielen
+    private int playRun, playInRun;
+
+    /**
+     * Konstruiert eine leere Aufzeichnung.
+     *
+     * @param seed       Der Startwert des Zufallsgenerators der Sitzung.
+     * @param levelIndex Das Start-Level.
+     * @param ups        Die Update-Rate, mit der aufgezeichnet wird.
+     */
+    public Replay(long seed, int levelIndex, int ups) {
+        this.seed = seed;
+        this.levelIndex = levelIndex;
+        this.ups = ups;
+    }
+
+    /**
+     * Hängt die Eingabemaske eines Ticks an.
+     *
+     * @param mask Die Maske aus {@link PlayerInput}.
+     */
+    public void record(int mask) {
+        byte b = (byte) mask;
+        if (runCount > 0 && masks[runCount - 1] == b && runs[runCount - 1] < MAX_RUN)
+            runs[runCount - 1]++;
+        else {
+            if (runCount == masks.length) {
+                masks = Arrays.copyOf(masks, runCount * 2);
+                runs = Arrays.copyOf(runs, runCount * 2);
+            }
+            masks[runCount] = b;
+            runs[runCount] = 1;
+            runCount++;
+        }
+        tickCount++;
+    }
+
+    /**
+     * Prüft, ob beim Abspielen noch Ticks übrig sind.
+     *
+     * @return true, wenn {@link #next()} eine weitere Maske liefert.
+     */
+    public boolean hasNext() {
+        return playRun < runCount;
+    }
+
+    /**
+     * Gibt die Eingabemaske des nächsten Ticks zurück.
+     *
+     * @return Die Maske.
+     */
+    public int next() {
+        int mask = masks[playRun] & 0xFF;
+        if (++playInRun >= runs[playRun]) {
+            playRun++;
+            playInRun = 0;
+        }
+        return mask;
+    }
+
+    /**
+     * Setzt die Wiedergabe auf den ersten Tick zurück.
+     */
+    public void rewind() {
+        playRun = 0;
+        playInRun = 0;
+    }
+
+    /**
+     * Schreibt die Aufzeichnung in eine Datei.
+     *
+     * @param path Der Zielpfad.
+     * @throws IOException Wenn die Datei nicht geschrieben werden kann.
+     */
+    public void save(Path path) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeLong(seed);
+            out.writeInt(levelIndex);
+            out.writeInt(ups);
+            out.writeInt(runCount);
+            for (int i = 0; i < runCount; i++) {
+                out.writeByte(masks[i]);
+                out.writeShort(runs[i]);
+            }
+        }
+    }
+
+    /**
+     * Liest eine Aufzeichnung aus einer Datei.
+     *
+     * @param path Der Pfad der Datei.
+     * @return Die geladene Aufzeichnung, bereit zum Abspielen.
+     * @throws IOException Wenn die Datei nicht gelesen werden kann oder kein gültiges Replay ist.
+     */
+    public static Replay load(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC)
+                throw new IOException("Keine Replay-Datei: " + path);
+            int version = in.readUnsignedByte();
+            if (version != VERSION)
+                throw new IOException("Nicht unterstützte Replay-Version " + version + ": " + path);
+
+            Replay replay = new Replay(in.readLong(), in.readInt(), in.readInt());
+            int count = in.readInt();
+            replay.masks = new byte[Math.max(1, count)];
+            replay.runs = new int[Math.max(1, count)];
+            for (int i = 0; i < count; i++) {
+                replay.masks[i] = in.readByte();
+                replay.runs[i] = in.readUnsignedShort();
+                replay.tickCount += replay.runs[i];
+            }
+            replay.runCount = count;
+            return replay;
+        }
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getLevelIndex() {
+        return levelIndex;
+    }
+
+    public int getUps() {
+        return ups;
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+}
@@ -4,6 +4,7 @@ import java.awt.Color;
 import java.awt.Point;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
+import java.util.Random;
 
 import entities.Crabby;
 import entities.Pinkstar;
@@ -26,6 +27,7 @@ import static utilz.Constants.ObjectConstants.*;
 public class Level {
 
 	private BufferedImage img;
+	private Random rnd;
 	private int[][] lvlData;
 
 	private ArrayList<Crabby> crabs = new ArrayList<>();
@@ -47,9 +49,11 @@ public class Level {
     * Konstruktor für die Level-Klasse.
     *
     * @param img Das Bild, das das Level repräsentiert.
+    * @param rnd Der Zufallsgenerator der Spielsitzung.
     */
-	public Level(BufferedImage img) {
+	public Level(BufferedImage img, Random rnd) {
 		this.img = img;
+		this.rnd = rnd;
 		lvlData = new int[img.getHeight()][img.getWidth()];
 		loadLevel();
 		calcLvlOffsets();
@@ -104,7 +108,7 @@ public class Level {
 		case BOX, BARREL -> containers.add(new GameContainer(x * Game.TILES_SIZE, y * Game.TILES_SIZE, blueValue));
 		case SPIKE -> spikes.add(new Spike(x * Game.TILES_SIZE, y * Game.TILES_SIZE, SPIKE));
 		case CANNON_LEFT, CANNON_RIGHT -> cannons.add(new Cannon(x * Game.TILES_SIZE, y * Game.TILES_SIZE, blueValue));
-		case TREE_ONE, TREE_TWO, TREE_THREE -> trees.add(new BackgroundTree(x * Game.TILES_SIZE, y * Game.TILES_SIZE, blueValue));
+		case TREE_ONE, TREE_TWO, TREE_THREE -> trees.add(new BackgroundTree(x * Game.TILES_SIZE, y * Game.TILES_SIZE, blueValue, rnd));
 		}
 	}
 
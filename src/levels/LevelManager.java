@@ -1,10 +1,16 @@
 package levels;
 
+import static utilz.Constants.MillisToTicks;
+
 import java.awt.Graphics;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
 
 import mainPackage.Game;
+import render.SoftwareRasterizer;
+import render.SpriteRegistry;
 import utilz.LoadSave;
 
 /**
@@ -15,47 +21,61 @@ public class LevelManager {
     private Game game;
     private BufferedImage[] levelSprite;
     private BufferedImage[] waterSprite;
+    private BufferedImage[] grassImgs;
     private ArrayList<Level> levels;
+    // Vorgerenderte Abschnitte je Level, null solange das Level nicht geladen wurde
+    private TileChunks[] chunks;
+    private static final int WATER_ANI_SPEED = MillisToTicks(200);
+
     private int lvlIndex = 0, aniTick, aniIndex;
+    private int waterId, waterBottomId;
+    private volatile int tileDrawCalls;
 
     /**
      * Konstruktor für die LevelManager-Klasse.
      *
      * @param game               Die Spielinstanz, zu der der LevelManager gehört.
      * @param initialLevelIndex Der Index des initialen Levels.
+     * @param rnd               Der Zufallsgenerator der Spielsitzung.
      */
-    public LevelManager(Game game, int initialLevelIndex) {
+    public LevelManager(Game game, int initialLevelIndex, Random rnd) {
         this.game = game;
         this.lvlIndex = initialLevelIndex;
         importOutsideSprites();
         createWater();
         levels = new ArrayList<>();
-        buildAllLevels();
+        buildAllLevels(rnd);
+        chunks = new TileChunks[levels.size()];
     }
 
     private void createWater() {
         waterSprite = new BufferedImage[5];
         BufferedImage img = LoadSave.GetSpriteAtlas(LoadSave.WATER_TOP);
         for (int i = 0; i < 4; i++)
-            waterSprite[i] = img.getSubimage(i * 32, 0, 32, 32);
+            waterSprite[i] = LoadSave.GetSubimage(img, i * 32, 0, 32, 32);
         waterSprite[4] = LoadSave.GetSpriteAtlas(LoadSave.WATER_BOTTOM);
+        waterId = SpriteRegistry.register(LoadSave.WATER_TOP, Arrays.copyOf(waterSprite, 4));
+        waterBottomId = SpriteRegistry.register(LoadSave.WATER_BOTTOM, waterSprite[4]);
     }
 
     /**
      * Lädt das nächste Level und aktualisiert die Spielobjekte entsprechend.
+     * Außer im Headless-Modus werden dabei die Kachel-Abschnitte des Levels vorgerendert.
      */
     public void loadNextLevel() {
         Level newLevel = levels.get(lvlIndex);
+        if (!game.isHeadless())
+            getChunks(lvlIndex);
         game.getPlaying().getEnemyManager().loadEnemies(newLevel);
         game.getPlaying().getPlayer().loadLvlData(newLevel.getLevelData());
         game.getPlaying().setMaxLvlOffset(newLevel.getLvlOffset());
         game.getPlaying().getObjectManager().loadObjects(newLevel);
     }
 
-    private void buildAllLevels() {
+    private void buildAllLevels(Random rnd) {
         BufferedImage[] allLevels = LoadSave.getAllLevels();
         for (BufferedImage img : allLevels)
-            levels.add(new Level(img));
+            levels.add(new Level(img, rnd));
     }
 
     private void importOutsideSprites() {
@@ -64,8 +84,28 @@ public class LevelManager {
         for (int j = 0; j < 4; j++)
             for (int i = 0; i < 12; i++) {
                 int index = j * 12 + i;
-                levelSprite[index] = img.getSubimage(i * 32, j * 32, 32, 32);
+                levelSprite[index] = LoadSave.GetSubimage(img, i * 32, j * 32, 32, 32);
             }
+
+        BufferedImage grassTemp = LoadSave.GetSpriteAtlas(LoadSave.GRASS_ATLAS);
+        grassImgs = new BufferedImage[2];
+        for (int i = 0; i < grassImgs.length; i++)
+            grassImgs[i] = LoadSave.GetSubimage(grassTemp, 32 * i, 0, 32, 32);
+    }
+
+    /**
+     * Gibt die Abschnitte eines Levels zurück und rendert sie beim ersten Zugriff vor.
+     * Abschnitte anderer Level werden dabei freigegeben, es bleibt höchstens ein Level im Speicher.
+     * Synchronisiert, da Spiel- und Render-Thread gleichzeitig zugreifen können.
+     */
+    private synchronized TileChunks getChunks(int levelIndex) {
+        TileChunks c = chunks[levelIndex];
+        if (c == null) {
+            Arrays.fill(chunks, null);
+            c = new TileChunks(levels.get(levelIndex), levelSprite, grassImgs);
+            chunks[levelIndex] = c;
+        }
+        return c;
     }
 
     /**
@@ -75,18 +115,35 @@ public class LevelManager {
      * @param lvlOffset Der horizontale Offset des Levels.
      */
     public void draw(Graphics g, int lvlOffset) {
-        for (int j = 0; j < Game.TILES_IN_HEIGHT; j++)
-            for (int i = 0; i < levels.get(lvlIndex).getLevelData()[0].length; i++) {
-                int index = levels.get(lvlIndex).getSpriteIndex(i, j);
-                int x = Game.TILES_SIZE * i - lvlOffset;
-                int y = Game.TILES_SIZE * j;
-                if (index == 48)
-                    g.drawImage(waterSprite[aniIndex], x, y, Game.TILES_SIZE, Game.TILES_SIZE, null);
-                else if (index == 49)
-                    g.drawImage(waterSprite[4], x, y, Game.TILES_SIZE, Game.TILES_SIZE, null);
-                else
-                    g.drawImage(levelSprite[index], x, y, Game.TILES_SIZE, Game.TILES_SIZE, null);
-            }
+        draw(g, lvlOffset, lvlIndex, aniIndex);
+    }
+
+    /**
+     * Zeichnet ein Level mit festgelegtem Wasser-Frame. Wird vom Render-Thread mit den Werten
+     * aus dem Render-Snapshot aufgerufen und liest keinen veränderlichen Zustand.
+     * Gezeichnet werden nur die sichtbaren vorgerenderten Abschnitte und darüber die Wasserkacheln,
+     * die Kosten hängen also nicht von der Levelbreite ab.
+     *
+     * @param g          Die Grafikoberfläche.
+     * @param lvlOffset  Der horizontale Offset des Levels.
+     * @param levelIndex Der Index des zu zeichnenden Levels.
+     * @param waterIndex Der Frame der Wasseranimation.
+     */
+    public void draw(Graphics g, int lvlOffset, int levelIndex, int waterIndex) {
+        tileDrawCalls = getChunks(levelIndex).draw(g, lvlOffset, waterId, waterIndex, waterBottomId);
+    }
+
+    /**
+     * Übergibt ein Level mit festgelegtem Wasser-Frame an den {@link SoftwareRasterizer}; das
+     * Gegenstück zu {@link #draw(Graphics, int, int, int)} für den Software-Renderer.
+     *
+     * @param r          Der Rasterizer.
+     * @param lvlOffset  Der horizontale Offset des Levels.
+     * @param levelIndex Der Index des zu zeichnenden Levels.
+     * @param waterIndex Der Frame der Wasseranimation.
+     */
+    public void rasterize(SoftwareRasterizer r, int lvlOffset, int levelIndex, int waterIndex) {
+        getChunks(levelIndex).rasterize(r, lvlOffset, waterId, waterIndex, waterBottomId);
     }
 
     /**
@@ -98,7 +155,7 @@ public class LevelManager {
 
     private void updateWaterAnimation() {
         aniTick++;
-        if (aniTick >= 40) {
+        if (aniTick >= WATER_ANI_SPEED) {
             aniTick = 0;
             aniIndex++;
 
@@ -107,6 +164,25 @@ public class LevelManager {
         }
     }
 
+    /**
+     * Gibt die Anzahl der {@code drawImage}-Aufrufe (Abschnitte und Wasserkacheln) beim
+     * letzten Zeichnen des Levels zurück.
+     *
+     * @return Die Zeichenaufrufe der Kachelebene pro Frame.
+     */
+    public int getTileDrawCalls() {
+        return tileDrawCalls;
+    }
+
+    /**
+     * Gibt den aktuellen Frame der Wasseranimation zurück.
+     *
+     * @return Der Index des Wasser-Frames.
+     */
+    public int getWaterIndex() {
+        return aniIndex;
+    }
+
     /**
      * Gibt das aktuelle Level zurück.
      *
@@ -0,0 +1,138 @@
+package levels;
+
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+import mainPackage.Game;
+import objects.Grass;
+import render.SoftwareRasterizer;
+import render.SpriteRegistry;
+import utilz.LoadSave;
+
+/**
+ * Die Klasse TileChunks hält ein Level als vorgerenderte Abschnitte fester Breite. Alle
+ * statischen Kacheln und das Gras werden einmal beim Laden in die Abschnitte gezeichnet;
+ * pro Frame bleiben nur wenige Abschnitte und die animierten Wasserkacheln zu zeichnen.
+ */
+class TileChunks {
+
+    /** Die Breite eines Abschnitts in Kacheln. */
+    public static final int CHUNK_TILES = 16;
+    public static final int CHUNK_WIDTH = CHUNK_TILES * Game.TILES_SIZE;
+
+    private final BufferedImage[] images;
+    // Pro Abschnitt die Wasserkacheln als Paare (Spalte, Zeile), Oberfläche (48) und Tiefe (49) getrennt
+    private final int[][] waterTop;
+    private final int[][] waterBottom;
+
+    /**
+     * Rendert ein Level in Abschnitte.
+     *
+     * @param level       Das Level, das vorgerendert wird.
+     * @param levelSprite Die Sprites der statischen Kacheln.
+     * @param grassImgs   Die Sprites der Grasarten.
+     */
+    TileChunks(Level level, BufferedImage[] levelSprite, BufferedImage[] grassImgs) {
+        int[][] lvlData = level.getLevelData();
+        int width = lvlData[0].length;
+        int count = (width + CHUNK_TILES - 1) / CHUNK_TILES;
+        images = new BufferedImage[count];
+        waterTop = new int[count][];
+        waterBottom = new int[count][];
+
+        for (int c = 0; c < count; c++) {
+            int firstCol = c * CHUNK_TILES;
+            int lastCol = Math.min(width, firstCol + CHUNK_TILES);
+            BufferedImage img = LoadSave.CreateCompatibleImage((lastCol - firstCol) * Game.TILES_SIZE, Game.GAME_HEIGHT, Transparency.TRANSLUCENT);
+            Graphics2D g = img.createGraphics();
+            int[] top = new int[(lastCol - firstCol) * Game.TILES_IN_HEIGHT * 2];
+            int[] bottom = new int[top.length];
+            int topSize = 0, bottomSize = 0;
+
+            for (int j = 0; j < Game.TILES_IN_HEIGHT; j++)
+                for (int i = firstCol; i < lastCol; i++) {
+                    int index = lvlData[j][i];
+                    if (index == 48) {
+                        top[topSize++] = i;
+                        top[topSize++] = j;
+                    } else if (index == 49) {
+                        bottom[bottomSize++] = i;
+                        bottom[bottomSize++] = j;
+                    } else
+                        g.drawImage(levelSprite[index], (i - firstCol) * Game.TILES_SIZE, j * Game.TILES_SIZE, Game.TILES_SIZE, Game.TILES_SIZE, null);
+                }
+
+            int chunkX = firstCol * Game.TILES_SIZE;
+            for (Grass grass : level.getGrass())
+                if (grass.getX() >= chunkX && grass.getX() < chunkX + img.getWidth())
+                    g.drawImage(grassImgs[grass.getType()], grass.getX() - chunkX, grass.getY(), (int) (32 * Game.SCALE), (int) (32 * Game.SCALE), null);
+            g.dispose();
+
+            images[c] = img;
+            waterTop[c] = Arrays.copyOf(top, topSize);
+            waterBottom[c] = Arrays.copyOf(bottom, bottomSize);
+        }
+    }
+
+    /**
+     * Zeichnet die sichtbaren Abschnitte und darüber die Wasserkacheln.
+     *
+     * @param g              Die Grafikoberfläche.
+     * @param lvlOffset      Der horizontale Offset des Levels.
+     * @param waterId        Die Sprite-ID der Wasseroberfläche.
+     * @param waterFrame     Der aktuelle Frame der Wasseroberfläche.
+     * @param waterBottomId  Die Sprite-ID des tiefen Wassers.
+     * @return Die Anzahl der ausgegebenen {@code drawImage}-Aufrufe.
+     */
+    int draw(Graphics g, int lvlOffset, int waterId, int waterFrame, int waterBottomId) {
+        int first = Math.max(0, lvlOffset / CHUNK_WIDTH);
+        int last = Math.min(images.length - 1, (lvlOffset + Game.GAME_WIDTH - 1) / CHUNK_WIDTH);
+        int drawCalls = 0;
+
+        for (int c = first; c <= last; c++) {
+            g.drawImage(images[c], c * CHUNK_WIDTH - lvlOffset, 0, null);
+            drawCalls++;
+        }
+        for (int c = first; c <= last; c++) {
+            drawCalls += drawWater(g, waterTop[c], waterId, waterFrame, lvlOffset);
+            drawCalls += drawWater(g, waterBottom[c], waterBottomId, 0, lvlOffset);
+        }
+        return drawCalls;
+    }
+
+    /**
+     * Übergibt die sichtbaren Abschnitte und die Wasserkacheln an den {@link SoftwareRasterizer},
+     * in derselben Reihenfolge wie {@link #draw}.
+     *
+     * @param r              Der Rasterizer.
+     * @param lvlOffset      Der horizontale Offset des Levels.
+     * @param waterId        Die Sprite-ID der Wasseroberfläche.
+     * @param waterFrame     Der aktuelle Frame der Wasseroberfläche.
+     * @param waterBottomId  Die Sprite-ID des tiefen Wassers.
+     */
+    void rasterize(SoftwareRasterizer r, int lvlOffset, int waterId, int waterFrame, int waterBottomId) {
+        int first = Math.max(0, lvlOffset / CHUNK_WIDTH);
+        int last = Math.min(images.length - 1, (lvlOffset + Game.GAME_WIDTH - 1) / CHUNK_WIDTH);
+
+        for (int c = first; c <= last; c++)
+            r.drawImage(images[c], c * CHUNK_WIDTH - lvlOffset, 0);
+        for (int c = first; c <= last; c++) {
+            rasterizeWater(r, waterTop[c], waterId, waterFrame, lvlOffset);
+            rasterizeWater(r, waterBottom[c], waterBottomId, 0, lvlOffset);
+        }
+    }
+
+    private void rasterizeWater(SoftwareRasterizer r, int[] tiles, int spriteId, int frame, int lvlOffset) {
+        for (int k = 0; k < tiles.length; k += 2)
+            r.drawSprite(spriteId, frame, 0, tiles[k] * Game.TILES_SIZE - lvlOffset, tiles[k + 1] * Game.TILES_SIZE, Game.TILES_SIZE, Game.TILES_SIZE);
+    }
+
+    private int drawWater(Graphics g, int[] tiles, int spriteId, int frame, int lvlOffset) {
+        for (int k = 0; k < tiles.length; k += 2)
+            SpriteRegistry.draw(g, spriteId, frame, tiles[k] * Game.TILES_SIZE - lvlOffset, tiles[k + 1] * Game.TILES_SIZE, Game.TILES_SIZE, Game.TILES_SIZE);
+        return tiles.length / 2;
+    }
+}
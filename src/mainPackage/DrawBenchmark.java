@@ -0,0 +1,96 @@
+package mainPackage;
+
+import java.awt.Graphics2D;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+
+import javax.imageio.ImageIO;
+
+import utilz.LoadSave;
+
+/**
+ * Der DrawBenchmark misst den {@code drawImage}-Durchsatz für Sprites, wie sie {@link ImageIO}
+ * liefert (Frames als {@code getSubimage}-Ansichten des Atlas), im Vergleich zu den von
+ * {@link LoadSave} vorbereiteten, bildschirmkompatiblen Kopien.
+ *
+ * Aufruf: {@code DrawBenchmark [sekunden]} (Standard 2 Sekunden pro Messung)
+ */
+public class DrawBenchmark {
+
+    private static final int PLAYER_COLUMNS = 8, PLAYER_ROWS = 7;
+
+    /**
+     * Der Einstiegspunkt des Benchmarks.
+     *
+     * @param args Optional die Messdauer in Sekunden.
+     */
+    public static void main(String[] args) {
+        double seconds = args.length > 0 ? Double.parseDouble(args[0]) : 2.0;
+        BufferedImage target = LoadSave.CreateCompatibleImage(Game.GAME_WIDTH, Game.GAME_HEIGHT, Transparency.OPAQUE);
+
+        BufferedImage rawAtlas = LoadSave.ReadImage(LoadSave.PLAYER_ATLAS);
+        BufferedImage preparedAtlas = LoadSave.GetSpriteAtlas(LoadSave.PLAYER_ATLAS);
+        BufferedImage[] rawFrames = new BufferedImage[PLAYER_COLUMNS * PLAYER_ROWS];
+        BufferedImage[] preparedFrames = new BufferedImage[rawFrames.length];
+        for (int j = 0; j < PLAYER_ROWS; j++)
+            for (int i = 0; i < PLAYER_COLUMNS; i++) {
+                rawFrames[j * PLAYER_COLUMNS + i] = rawAtlas.getSubimage(i * 64, j * 40, 64, 40);
+                preparedFrames[j * PLAYER_COLUMNS + i] = LoadSave.GetSubimage(preparedAtlas, i * 64, j * 40, 64, 40);
+            }
+
+        BufferedImage[] rawBg = { LoadSave.ReadImage(LoadSave.PLAYING_BG_IMG) };
+        BufferedImage[] preparedBg = { LoadSave.GetSpriteAtlas(LoadSave.PLAYING_BG_IMG) };
+
+        System.out.printf("Ziel: %s%n", describe(target));
+        System.out.printf("Sprites roh: %s, vorbereitet: %s%n", describe(rawFrames[0]), describe(preparedFrames[0]));
+        System.out.printf("Hintergrund roh: %s, vorbereitet: %s%n", describe(rawBg[0]), describe(preparedBg[0]));
+
+        compare("Spieler-Frames 128x80", rawFrames, preparedFrames, target, 128, 80, seconds);
+        compare("Hintergrund skaliert", rawBg, preparedBg, target, Game.GAME_WIDTH, Game.GAME_HEIGHT, seconds);
+    }
+
+    private static void compare(String name, BufferedImage[] raw, BufferedImage[] prepared, BufferedImage target, int w, int h, double seconds) {
+        double rawRate = measure(raw, target, w, h, seconds);
+        double preparedRate = measure(prepared, target, w, h, seconds);
+        System.out.printf("%s: roh %.0f/s, vorbereitet %.0f/s (%.2fx)%n", name, rawRate, preparedRate, preparedRate / rawRate);
+    }
+
+    /**
+     * Zeichnet die Bilder reihum in das Ziel, bis die Messdauer abgelaufen ist. Eine kurze
+     * Aufwärmphase vorab lässt den JIT und die Bild-Caches von Java2D greifen.
+     */
+    private static double measure(BufferedImage[] imgs, BufferedImage target, int w, int h, double seconds) {
+        Graphics2D g = target.createGraphics();
+        try {
+            draw(g, imgs, w, h, (long) (seconds * 0.25 * 1_000_000_000L));
+            long nanos = (long) (seconds * 1_000_000_000L);
+            long start = System.nanoTime();
+            long draws = draw(g, imgs, w, h, nanos);
+            return draws / ((System.nanoTime() - start) / 1_000_000_000.0);
+        } finally {
+            g.dispose();
+        }
+    }
+
+    private static long draw(Graphics2D g, BufferedImage[] imgs, int w, int h, long nanos) {
+        long end = System.nanoTime() + nanos;
+        long draws = 0;
+        int maxX = Math.max(1, Game.GAME_WIDTH - w), maxY = Math.max(1, Game.GAME_HEIGHT - h);
+        while (System.nanoTime() < end)
+            for (int k = 0; k < 64; k++, draws++)
+                g.drawImage(imgs[(int) (draws % imgs.length)], (int) (draws * 37 % maxX), (int) (draws * 13 % maxY), w, h, null);
+        return draws;
+    }
+
+    private static String describe(BufferedImage img) {
+        return switch (img.getType()) {
+        case BufferedImage.TYPE_INT_RGB -> "INT_RGB";
+        case BufferedImage.TYPE_INT_ARGB -> "INT_ARGB";
+        case BufferedImage.TYPE_INT_ARGB_PRE -> "INT_ARGB_PRE";
+        case BufferedImage.TYPE_3BYTE_BGR -> "3BYTE_BGR";
+        case BufferedImage.TYPE_4BYTE_ABGR -> "4BYTE_ABGR";
+        case BufferedImage.TYPE_BYTE_INDEXED -> "BYTE_INDEXED";
+        default -> "Typ " + img.getType();
+        } + " " + img.getWidth() + "x" + img.getHeight();
+    }
+}
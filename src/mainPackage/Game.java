@@ -1,6 +1,11 @@
 package mainPackage;
 
 import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.concurrent.locks.LockSupport;
 
 import audio.AudioPlayer;
 import gamestates.ChangeUser;
@@ -9,6 +14,14 @@ import gamestates.GameOptions;
 import gamestates.Gamestate;
 import gamestates.Menu;
 import gamestates.Playing;
+import render.Backbuffer;
+import render.DirtyRegions;
+import render.FrameCapture;
+import render.RenderSnapshot;
+import render.SnapshotBuffer;
+import render.SoftwareRasterizer;
+import render.SpriteRegistry;
+import render.SpriteVariants;
 import ui.AudioOptions;
 
 /**
@@ -17,10 +30,12 @@ import ui.AudioOptions;
 public class Game implements Runnable {
 
     private GamePanel gamePanel;
+    private GameCanvas gameCanvas;
     private GameWindow gameWindow;
     private Thread gameThread;
-    private final int FPS_SET = 120;
-    private final int UPS_SET = 200;
+    public final static int FPS_SET = 120;
+    // Feste Update-Rate, z.B. -Dgame.ups=60 für schwache Rechner; das Spielverhalten bleibt gleich.
+    public final static int UPS_SET = Math.max(1, Integer.getInteger("game.ups", 200));
 
     private Playing playing;
     private Menu menu;
@@ -33,7 +48,9 @@ public class Game implements Runnable {
     int level;
 
     public final static int TILES_DEFAULT_SIZE = 32;
-    public final static float SCALE = 1f;
+    // Vergrößerung aller Spielgrafiken, beim Start wählbar mit -Dgame.scale=1.5 (0.5 bis 4).
+    // Sprites werden einmal beim Laden vorskaliert, gezeichnet wird danach unskaliert.
+    public final static float SCALE = Math.max(0.5f, Math.min(4f, Float.parseFloat(System.getProperty("game.scale", "1"))));
     public final static int TILES_IN_WIDTH = 26;
     public final static int TILES_IN_HEIGHT = 14;
     public final static int TILES_SIZE = (int) (TILES_DEFAULT_SIZE * SCALE);
@@ -42,14 +59,95 @@ public class Game implements Runnable {
 
     private final boolean SHOW_FPS_UPS = true;
 
+    // Eigener Render-Thread, der nur aus Render-Snapshots zeichnet, aktivierbar mit -Dgame.renderThread=true
+    public final static boolean RENDER_THREAD = Boolean.getBoolean("game.renderThread");
+    // Interpolation zwischen den letzten beiden Ticks beim Zeichnen, aktivierbar mit -Dgame.interpolation=true
+    public final static boolean INTERPOLATION = Boolean.getBoolean("game.interpolation");
+    // Aktives Rendern über eine BufferStrategy statt repaint(), aktivierbar mit -Dgame.activeRendering=true
+    public final static boolean ACTIVE_RENDERING = Boolean.getBoolean("game.activeRendering") || RENDER_THREAD;
+    // Szene im Software-Renderer statt mit Java2D zeichnen, aktivierbar mit -Dgame.softwareRenderer=true
+    public final static boolean SOFTWARE_RENDERER = Boolean.getBoolean("game.softwareRenderer");
+
+    // Restzeit in Nanosekunden, ab der nicht mehr geparkt, sondern aktiv gewartet wird.
+    private static final long SPIN_THRESHOLD = 500_000;
+    private final LoopStats loopStats = new LoopStats();
+    private final QualityGovernor qualityGovernor;
+    // Höchstens so viele aufgelaufene Updates pro Durchlauf nachholen, z.B. -Dgame.maxUpdatesPerFrame=10
+    private volatile int maxUpdatesPerFrame = Math.max(1, Integer.getInteger("game.maxUpdatesPerFrame", 5));
+    private final boolean headless;
+    // Zustand dieser Spielinstanz; mehrere Instanzen können unabhängig nebeneinander laufen.
+    private volatile Gamestate gamestate = Gamestate.USER;
+    private SnapshotBuffer snapshotBuffer;
+    // Zeichnet die Szene parallel in ein int-Array, null für Java2D
+    private volatile SoftwareRasterizer rasterizer;
+    // Bild in Spielauflösung, das pro Frame einmal ins Fenster skaliert wird
+    private Backbuffer backbuffer;
+    // Flächen des Backbuffers, die statische Zustände (Menüs) neu zeichnen müssen
+    private final DirtyRegions dirtyRegions = new DirtyRegions();
+    // Auch ohne Änderung wird in diesem Abstand präsentiert, um vom Fenstersystem überzeichnete Flächen zu reparieren.
+    private static final long IDLE_PRESENT_NANOS = 500_000_000L;
+    private volatile long lastPresentNanos;
+    private RenderThread renderThread;
+    // Screenshots (F9) und Aufnahmen (F10) der präsentierten Frames, null im Headless-Modus.
+    // Verzeichnis mit -Dgame.captureDir, Format der Aufnahmen mit -Dgame.captureFormat=png|raw
+    private FrameCapture frameCapture;
+    // Rest des Update-Akkumulators beim letzten Frame, den der Spiel-Thread selbst zeichnet
+    private volatile float frameAlpha = 1f;
+
     /**
-     * Konstruiert ein Game-Objekt.
+     * Konstruiert ein Game-Objekt mit Fenster, Audio und laufender Spielschleife.
      */
     public Game() {
+        this(false);
+    }
+
+    /**
+     * Konstruiert ein Game-Objekt.
+     * Im Headless-Modus werden weder Panel, Fenster noch Audio erzeugt und es wird kein
+     * Spiel-Thread gestartet; die Simulation wird dann über {@link #startHeadless(int)} und
+     * {@link #step()} gesteuert.
+     *
+     * @param headless true, wenn das Spiel ohne AWT-Fenster, Swing und Audio laufen soll.
+     */
+    public Game(boolean headless) {
+        this(headless, !headless);
+    }
+
+    /**
+     * Konstruiert ein Game-Objekt, wahlweise auch headless mit Render-Snapshots, so dass
+     * {@link #renderOffscreen(BufferedImage)} denselben Weg nimmt wie der Render-Thread,
+     * z.B. für Benchmarks.
+     *
+     * @param headless  true, wenn das Spiel ohne AWT-Fenster, Swing und Audio laufen soll.
+     * @param snapshots true, wenn pro Tick ein Render-Snapshot veröffentlicht wird.
+     */
+    public Game(boolean headless, boolean snapshots) {
+        this.headless = headless;
+        // Feste Qualität mit -Dgame.fixedQuality=true; headless wird immer in voller Qualität gezeichnet.
+        qualityGovernor = new QualityGovernor(!headless && !Boolean.getBoolean("game.fixedQuality"));
+        if (snapshots)
+            snapshotBuffer = new SnapshotBuffer();
+        if (SOFTWARE_RENDERER)
+            rasterizer = new SoftwareRasterizer();
+        if (headless) {
+            initClasses();
+            return;
+        }
+        backbuffer = new Backbuffer();
+        frameCapture = new FrameCapture(new File(System.getProperty("game.captureDir", "captures")), System.getProperty("game.captureFormat", FrameCapture.PNG));
         gamePanel = new GamePanel(this);
         initClasses();
+        if (SHOW_FPS_UPS)
+            System.out.println(SpriteRegistry.report());
+        if (ACTIVE_RENDERING) {
+            gameCanvas = new GameCanvas(this, gamePanel);
+            gamePanel.add(gameCanvas);
+        }
         gameWindow = new GameWindow(gamePanel);
-        gamePanel.requestFocusInWindow();
+        if (gameCanvas != null)
+            gameCanvas.initBufferStrategy();
+        else
+            gamePanel.requestFocusInWindow();
         startGameLoop();
     }
 
@@ -60,7 +158,7 @@ public class Game implements Runnable {
         playing = new Playing(this);
         changeuser = new ChangeUser(this, playing);
         audioOptions = new AudioOptions(this);
-        audioPlayer = new AudioPlayer();
+        audioPlayer = new AudioPlayer(!headless);
         menu = new Menu(this);
         credits = new Credits(this);
         gameOptions = new GameOptions(this);
@@ -72,13 +170,18 @@ public class Game implements Runnable {
     private void startGameLoop() {
         gameThread = new Thread(this);
         gameThread.start();
+        if (RENDER_THREAD) {
+            renderThread = new RenderThread(this);
+            renderThread.start();
+        }
     }
 
     /**
      * Aktualisiert den Zustand des Spiels.
      */
     public void update() {
-        switch (Gamestate.state) {
+        long start = System.nanoTime();
+        switch (gamestate) {
             case MENU -> menu.update();
             case PLAYING -> playing.update();
             case OPTIONS -> gameOptions.update();
@@ -86,6 +189,7 @@ public class Game implements Runnable {
             case USER -> changeuser.update();
             case QUIT -> System.exit(0);
         }
+        qualityGovernor.addUpdateNanos(System.nanoTime() - start);
     }
 
     /**
@@ -93,19 +197,86 @@ public class Game implements Runnable {
      *
      * @param g Das Graphics-Objekt.
      */
-    @SuppressWarnings("incomplete-switch")
     public void render(Graphics g) {
-        switch (Gamestate.state) {
+        long start = System.nanoTime();
+        drawState(g);
+        qualityGovernor.frameRendered(System.nanoTime() - start, renderThread != null);
+    }
+
+    @SuppressWarnings("incomplete-switch")
+    private void drawState(Graphics g) {
+        switch (gamestate) {
             case MENU -> menu.draw(g);
-            case PLAYING -> playing.draw(g);
+            case PLAYING -> {
+                if (snapshotBuffer != null) {
+                    RenderSnapshot snapshot = snapshotBuffer.acquire();
+                    playing.drawSnapshot(g, snapshot, getInterpolationAlpha(snapshot), rasterizer);
+                }
+                else
+                    playing.draw(g);
+            }
             case OPTIONS -> gameOptions.draw(g);
             case CREDITS -> credits.draw(g);
             case USER -> changeuser.draw(g);
         }
     }
 
+    /**
+     * Zeichnet in einem statischen Zustand nur die gemeldeten Flächen neu, jeweils mit Clip auf
+     * die Fläche; der Rest des Backbuffers bleibt vom vorigen Frame stehen. Auch das teilweise
+     * Neuzeichnen schließt beim {@link QualityGovernor} einen Frame ab.
+     */
+    private void renderDirty(Graphics2D g) {
+        Rectangle[] regions = dirtyRegions.take();
+        if (regions == null) {
+            render(g);
+            return;
+        }
+        long start = System.nanoTime();
+        for (Rectangle r : regions) {
+            g.setClip(r);
+            drawState(g);
+        }
+        qualityGovernor.frameRendered(System.nanoTime() - start, renderThread != null);
+    }
+
+    /**
+     * Gibt an, ob sich im Zustand nur Schaltflächen ändern, die ihre Änderungen an
+     * {@link DirtyRegions} melden. Die Credits scrollen ständig und zählen nicht dazu.
+     */
+    private static boolean isStatic(Gamestate state) {
+        return state == Gamestate.MENU || state == Gamestate.OPTIONS || state == Gamestate.USER;
+    }
+
+    /**
+     * Zeichnet einen Frame in den {@link Backbuffer} und skaliert ihn in die Zielfläche des Fensters.
+     * Synchronisiert, da Canvas (Spiel- oder Render-Thread) und Panel (EDT) denselben Puffer nutzen.
+     *
+     * @param g      Die Grafikoberfläche des Fensters.
+     * @param width  Die Breite der Zielfläche.
+     * @param height Die Höhe der Zielfläche.
+     */
+    public synchronized void present(Graphics g, int width, int height) {
+        Graphics2D bg = backbuffer.createGraphics();
+        try {
+            if (isStatic(gamestate))
+                renderDirty(bg);
+            else
+                render(bg);
+        } finally {
+            bg.dispose();
+        }
+        if (frameCapture.isPending())
+            frameCapture.capture(backbuffer);
+        backbuffer.present(g, width, height);
+        lastPresentNanos = System.nanoTime();
+    }
+
     /**
      * Implementiert die run-Methode für den Spiel-Thread.
+     * Zwischen zwei Updates bzw. Frames wird der Thread geparkt statt aktiv zu warten,
+     * nur die letzte Teil-Millisekunde vor der Frist wird per Spin überbrückt.
+     * Läuft ein eigener Render-Thread, plant die Schleife nur noch Updates.
      */
     @Override
     public void run() {
@@ -124,33 +295,218 @@ public class Game implements Runnable {
             long currentTime = System.nanoTime();
 
             deltaU += (currentTime - previousTime) / timePerUpdate;
-            deltaF += (currentTime - previousTime) / timePerFrame;
+            if (renderThread == null)
+                deltaF += (currentTime - previousTime) / timePerFrame;
             previousTime = currentTime;
 
-            if (deltaU >= 1) {
+            // Aufgelaufene Updates nachholen, höchstens maxUpdatesPerFrame pro Durchlauf.
+            int steps = 0;
+            while (deltaU >= 1 && steps < maxUpdatesPerFrame) {
                 update();
+                loopStats.countUpdate();
                 deltaU--;
+                steps++;
+            }
+
+            // Was darüber hinaus aufgelaufen ist, wird verworfen statt nachgeholt.
+            if (deltaU >= 1) {
+                double dropped = Math.floor(deltaU);
+                loopStats.addDropped((long) dropped, (long) (dropped * timePerUpdate));
+                deltaU -= dropped;
             }
 
             if (deltaF >= 1) {
-                gamePanel.repaint();
+                frameAlpha = (float) Math.min(deltaU, 1);
+                renderFrame();
+                loopStats.countFrame();
                 deltaF--;
             }
 
+            // Zeit bis zum nächsten fälligen Update bzw. Frame abwarten.
+            long elapsed = System.nanoTime() - previousTime;
+            double untilUpdate = (1 - deltaU) * timePerUpdate - elapsed;
+            double untilFrame = renderThread == null ? (1 - deltaF) * timePerFrame - elapsed : Double.MAX_VALUE;
+            long idle = (long) Math.min(untilUpdate, untilFrame);
+            if (idle > 0)
+                waitUntil(System.nanoTime() + idle);
+
             if (SHOW_FPS_UPS)
                 if (System.currentTimeMillis() - lastCheck >= 1000) {
                     lastCheck = System.currentTimeMillis();
+                    String report = loopStats.report() + " | " + qualityGovernor.report() + " | " + backbuffer.report();
+                    if (gamestate == Gamestate.PLAYING)
+                        report += " | Kachel-Draws/Frame: " + playing.getLevelManager().getTileDrawCalls() + " | " + playing.getRenderQueueReport() + " | " + SpriteVariants.report();
+                    if (gamestate == Gamestate.PLAYING && rasterizer != null)
+                        report += " | " + rasterizer.report();
+                    else if (isStatic(gamestate))
+                        report += " | " + dirtyRegions.report();
+                    if (frameCapture.isRecording())
+                        report += " | " + frameCapture.report();
+                    System.out.println(report);
                 }
         }
     }
 
+    /**
+     * Bestimmt, wie weit zwischen vorletztem und letztem Tick gezeichnet wird. Zeichnet der
+     * Spiel-Thread selbst, ist das der Rest des Update-Akkumulators. Der Render-Thread und beim
+     * passiven Rendern der EDT zeichnen erst später und womöglich einen neueren Snapshot; sie
+     * leiten den Anteil deshalb beim Zeichnen aus der Zeit seit dem Veröffentlichen ab.
+     *
+     * @param snapshot Der zu zeichnende Snapshot.
+     * @return Der Anteil zwischen 0 und 1, ohne Interpolation immer 1.
+     */
+    private float getInterpolationAlpha(RenderSnapshot snapshot) {
+        if (!INTERPOLATION || !qualityGovernor.isInterpolation())
+            return 1f;
+        if (renderThread != null || (gameThread != null && Thread.currentThread() != gameThread))
+            return snapshot.alphaAt(System.nanoTime(), 1000000000.0 / UPS_SET);
+        return frameAlpha;
+    }
+
+    /**
+     * Stößt das Zeichnen eines Frames an. Beim aktiven Rendern zeichnet und präsentiert der
+     * Spiel-Thread selbst, sonst wird das Neuzeichnen beim Swing-EDT angefordert.
+     * Der Benutzerzustand enthält ein Swing-Textfeld und wird deshalb immer passiv gezeichnet.
+     * Hat sich in einem statischen Zustand nichts geändert und steht keine Aufnahme an, entfällt
+     * der Frame ganz; der {@link QualityGovernor} zählt ihn dann ohne Zeichenzeit, damit sich
+     * Updates nicht aufstauen.
+     * Wird vom Spiel-Thread oder, falls vorhanden, vom {@link RenderThread} aufgerufen.
+     */
+    void renderFrame() {
+        if (isStatic(gamestate) && dirtyRegions.isClean() && !frameCapture.isPending() && System.nanoTime() - lastPresentNanos < IDLE_PRESENT_NANOS) {
+            dirtyRegions.countIdle();
+            qualityGovernor.frameRendered(0, renderThread != null);
+            return;
+        }
+        if (gameCanvas != null) {
+            gameCanvas.setShown(gamestate != Gamestate.USER);
+            if (gameCanvas.isShown() && gameCanvas.renderFrame())
+                return;
+        }
+        gamePanel.repaint();
+    }
+
+    /**
+     * Wartet bis zur angegebenen Frist. Der Thread wird geparkt, solange mehr als
+     * {@link #SPIN_THRESHOLD} Nanosekunden verbleiben, danach wird kurz aktiv gewartet,
+     * um die Frist genau zu treffen.
+     *
+     * @param deadline Die Frist in Nanosekunden (Zeitbasis {@link System#nanoTime()}).
+     */
+    private void waitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > SPIN_THRESHOLD) {
+            long parkStart = System.nanoTime();
+            LockSupport.parkNanos(remaining - SPIN_THRESHOLD);
+            loopStats.addParked(System.nanoTime() - parkStart);
+        }
+
+        long spinStart = System.nanoTime();
+        while (deadline - System.nanoTime() > 0)
+            Thread.onSpinWait();
+        loopStats.addSpun(System.nanoTime() - spinStart);
+    }
+
+    /**
+     * Startet im Headless-Modus eine Spielsitzung im angegebenen Level, ohne Benutzerdaten zu lesen.
+     *
+     * @param levelIndex Der Index des Start-Levels.
+     */
+    public void startHeadless(int levelIndex) {
+        startHeadless(levelIndex, System.nanoTime());
+    }
+
+    /**
+     * Startet im Headless-Modus eine Spielsitzung mit festem Startwert der Zufallsgeneratoren.
+     *
+     * @param levelIndex Der Index des Start-Levels.
+     * @param seed       Der Startwert der Sitzung.
+     */
+    public void startHeadless(int levelIndex, long seed) {
+        playing.startSession(levelIndex, seed);
+        gamestate = Gamestate.PLAYING;
+    }
+
+    /**
+     * Führt genau einen Simulationsschritt aus.
+     */
+    public void step() {
+        update();
+    }
+
+    /**
+     * Führt die angegebene Anzahl an Simulationsschritten aus, entweder so schnell wie möglich
+     * oder mit fester Rate.
+     *
+     * @param ticks Die Anzahl der Schritte.
+     * @param ups   Die Schrittrate pro Sekunde, oder 0 für maximale Geschwindigkeit.
+     * @return Die benötigte Zeit in Nanosekunden.
+     */
+    public long runHeadless(int ticks, int ups) {
+        long start = System.nanoTime();
+        long next = start;
+        long timePerUpdate = ups > 0 ? 1_000_000_000L / ups : 0;
+        for (int i = 0; i < ticks; i++) {
+            if (timePerUpdate > 0) {
+                next += timePerUpdate;
+                waitUntil(next);
+            }
+            update();
+            loopStats.countUpdate();
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Zeichnet den aktuellen Spielzustand in ein Offscreen-Bild.
+     *
+     * @param target Das Zielbild, mindestens {@link #GAME_WIDTH} x {@link #GAME_HEIGHT} groß.
+     */
+    public void renderOffscreen(BufferedImage target) {
+        Graphics2D g = target.createGraphics();
+        try {
+            render(g);
+        } finally {
+            g.dispose();
+        }
+    }
+
+    /**
+     * Wählt den Renderer für die Szene im Spielzustand; wirkt nur mit Render-Snapshots.
+     *
+     * @param rasterizer Der Software-Renderer oder null für Java2D.
+     */
+    public void setRasterizer(SoftwareRasterizer rasterizer) {
+        this.rasterizer = rasterizer;
+    }
+
+    public boolean isHeadless() {
+        return headless;
+    }
+
     /**
      * Behandelt den Verlust des Fokus vom Spiel-Fenster.
      * Wenn das Spiel im Zustand "PLAYING" ist, werden die Richtungsbooleans des Spielers zurückgesetzt.
      */
     public void windowFocusLost() {
-        if (Gamestate.state == Gamestate.PLAYING)
-            playing.getPlayer().resetDirBooleans();
+        if (gamestate == Gamestate.PLAYING)
+            playing.windowFocusLost();
+    }
+
+    public Gamestate getGamestate() {
+        return gamestate;
+    }
+
+    /**
+     * Setzt den aktuellen Spielzustand dieser Instanz.
+     *
+     * @param gamestate Der neue Zustand.
+     */
+    public void setGamestate(Gamestate gamestate) {
+        this.gamestate = gamestate;
+        // erst nach dem Wechsel, damit kein Frame den alten Zustand mit der vollen Fläche zeichnet
+        dirtyRegions.addAll();
     }
 
     public Menu getMenu() {
@@ -188,6 +544,68 @@ public class Game implements Runnable {
     public GamePanel getGamePanel() {
         return gamePanel;
     }
+
+    public GameCanvas getGameCanvas() {
+        return gameCanvas;
+    }
+
+    /**
+     * Gibt den Puffer in Spielauflösung zurück, aus dem ins Fenster skaliert wird.
+     *
+     * @return Der Backbuffer, oder null im Headless-Modus.
+     */
+    public Backbuffer getBackbuffer() {
+        return backbuffer;
+    }
+
+    /**
+     * Gibt die Aufnahme der präsentierten Frames zurück.
+     *
+     * @return Die Aufnahme, oder null im Headless-Modus.
+     */
+    public FrameCapture getFrameCapture() {
+        return frameCapture;
+    }
+
+    /**
+     * Gibt die Sammlung der neu zu zeichnenden Flächen zurück.
+     *
+     * @return Die Flächen, die statische Zustände melden.
+     */
+    public DirtyRegions getDirtyRegions() {
+        return dirtyRegions;
+    }
+
+    /**
+     * Gibt den Puffer zurück, über den die Simulation Render-Snapshots veröffentlicht.
+     *
+     * @return Der Snapshot-Puffer, oder null im Headless-Modus.
+     */
+    public SnapshotBuffer getSnapshotBuffer() {
+        return snapshotBuffer;
+    }
+
+    public QualityGovernor getQualityGovernor() {
+        return qualityGovernor;
+    }
+
+    public LoopStats getLoopStats() {
+        return loopStats;
+    }
+
+    /**
+     * Legt fest, wie viele aufgelaufene Updates pro Schleifendurchlauf höchstens nachgeholt werden.
+     * Darüber hinaus aufgelaufene Zeit wird verworfen und als verworfene Zeit gezählt.
+     *
+     * @param maxUpdatesPerFrame Die maximale Anzahl an Updates pro Durchlauf (mindestens 1).
+     */
+    public void setMaxUpdatesPerFrame(int maxUpdatesPerFrame) {
+        this.maxUpdatesPerFrame = Math.max(1, maxUpdatesPerFrame);
+    }
+
+    public int getMaxUpdatesPerFrame() {
+        return maxUpdatesPerFrame;
+    }
     
     /**
      * Ruft die Höchstpunktzahl eines Benutzers ab.
@@ -0,0 +1,104 @@
+package mainPackage;
+
+import static mainPackage.Game.GAME_HEIGHT;
+import static mainPackage.Game.GAME_WIDTH;
+
+import java.awt.Canvas;
+import java.awt.Graphics;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
+
+import javax.swing.SwingUtilities;
+
+/**
+ * Die GameCanvas-Klasse ermöglicht aktives Rendern: Der Spiel-Thread zeichnet selbst über eine
+ * {@link BufferStrategy} und präsentiert jeden Frame explizit, statt über {@code repaint()} einen
+ * Neuzeichen-Wunsch an den Swing-EDT zu stellen, den dieser zusammenfassen oder verwerfen kann.
+ * Die Leinwand liegt deckungsgleich über dem {@link GamePanel} und nutzt dessen Eingabe-Listener.
+ */
+public class GameCanvas extends Canvas {
+
+	private static final long serialVersionUID = 1L;
+
+	private Game game;
+	private volatile boolean shown = true;
+
+	/**
+	 * Konstruktor für die GameCanvas-Klasse.
+	 *
+	 * @param game      Das Spielobjekt, dessen render-Methode aufgerufen wird.
+	 * @param gamePanel Das Panel, über dem die Leinwand liegt.
+	 */
+	public GameCanvas(Game game, GamePanel gamePanel) {
+		this.game = game;
+		setIgnoreRepaint(true);
+		setBounds(0, 0, GAME_WIDTH, GAME_HEIGHT);
+		setFocusable(true);
+		addKeyListener(gamePanel.getKeyboardInputs());
+		addMouseListener(gamePanel.getMouseInputs());
+		addMouseMotionListener(gamePanel.getMouseInputs());
+	}
+
+	/**
+	 * Legt die Buffer-Strategie an. Muss aufgerufen werden, sobald das Fenster sichtbar ist.
+	 */
+	public void initBufferStrategy() {
+		createBufferStrategy(2);
+		requestFocus();
+	}
+
+	/**
+	 * Blendet die Leinwand ein oder aus. Ist sie ausgeblendet, übernimmt wieder das
+	 * {@link GamePanel} das Zeichnen (z.B. für Zustände mit Swing-Komponenten).
+	 *
+	 * @param shown true, wenn die Leinwand sichtbar sein soll.
+	 */
+	public void setShown(boolean shown) {
+		if (this.shown == shown)
+			return;
+		this.shown = shown;
+		SwingUtilities.invokeLater(() -> {
+			setVisible(shown);
+			if (shown)
+				requestFocus();
+		});
+	}
+
+	public boolean isShown() {
+		return shown;
+	}
+
+	/**
+	 * Zeichnet einen Frame in den Hintergrundpuffer und präsentiert ihn.
+	 * Geht der Pufferinhalt verloren, wird der Frame neu gezeichnet und als verworfen gezählt.
+	 *
+	 * @return true, wenn ein Frame präsentiert wurde.
+	 */
+	public boolean renderFrame() {
+		BufferStrategy bs = getBufferStrategy();
+		if (bs == null || !isDisplayable())
+			return false;
+
+		LoopStats stats = game.getLoopStats();
+		do {
+			do {
+				Graphics g = bs.getDrawGraphics();
+				try {
+					game.present(g, getWidth(), getHeight());
+				} finally {
+					g.dispose();
+				}
+				if (bs.contentsRestored())
+					stats.countLost();
+			} while (bs.contentsRestored());
+
+			bs.show();
+			if (bs.contentsLost())
+				stats.countLost();
+		} while (bs.contentsLost());
+
+		Toolkit.getDefaultToolkit().sync();
+		stats.countPresented();
+		return true;
+	}
+}
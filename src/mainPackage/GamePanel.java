@@ -17,6 +17,7 @@ public class GamePanel extends JPanel {
 	private static final long serialVersionUID = 1L;
 	
 	private MouseInputs mouseInputs;
+	private KeyboardInputs keyboardInputs;
 	private Game game;
 
 	/**
@@ -31,7 +32,8 @@ public class GamePanel extends JPanel {
 		mouseInputs = new MouseInputs(this);
 		this.game = game;
 		setPanelSize();
-		addKeyListener(new KeyboardInputs(this));
+		keyboardInputs = new KeyboardInputs(this);
+		addKeyListener(keyboardInputs);
 		addMouseListener(mouseInputs);
 		addMouseMotionListener(mouseInputs);
 	}
@@ -51,7 +53,28 @@ public class GamePanel extends JPanel {
 	 */
 	public void paintComponent(Graphics g) {
 		super.paintComponent(g);
-		game.render(g);
+		game.present(g, getWidth(), getHeight());
+		game.getLoopStats().countPresented();
+	}
+
+	/**
+	 * Passt beim Ändern der Fenstergröße die Leinwand und die Swing-Komponenten an die skalierte Spielfläche an.
+	 */
+	@Override
+	public void doLayout() {
+		if (game.getGameCanvas() != null)
+			game.getGameCanvas().setBounds(0, 0, getWidth(), getHeight());
+		if (game.getChangeUser() != null)
+			game.getChangeUser().layoutTextField(game.getBackbuffer(), getWidth(), getHeight());
+		game.getDirtyRegions().addAll();
+	}
+
+	public MouseInputs getMouseInputs() {
+		return mouseInputs;
+	}
+
+	public KeyboardInputs getKeyboardInputs() {
+		return keyboardInputs;
 	}
 
 	/**
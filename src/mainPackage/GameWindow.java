@@ -1,5 +1,7 @@
 package mainPackage;
 
+import java.awt.GraphicsDevice;
+import java.awt.GraphicsEnvironment;
 import java.awt.event.WindowEvent;
 import java.awt.event.WindowFocusListener;
 
@@ -9,6 +11,9 @@ import javax.swing.JFrame;
  * Die Klasse GameWindow repräsentiert das Hauptfenster des Spiels und enthält eine JFrame-Komponente.
  */
 public class GameWindow {
+	// Vollbild statt Fenster, aktivierbar mit -Dgame.fullscreen=true
+	public static final boolean FULLSCREEN = Boolean.getBoolean("game.fullscreen");
+
 	private JFrame jframe;
 
 	public GameWindow(GamePanel gamePanel) {
@@ -18,10 +23,15 @@ public class GameWindow {
 		jframe.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
 		jframe.add(gamePanel);
 		
-		jframe.setResizable(false);
+		// Das Spiel wird in fester Auflösung gezeichnet und ins Fenster skaliert, siehe Backbuffer.
+		jframe.setResizable(true);
+		if (FULLSCREEN)
+			jframe.setUndecorated(true);
 		jframe.pack();
 		jframe.setLocationRelativeTo(null);
 		jframe.setVisible(true);
+		if (FULLSCREEN)
+			enterFullscreen();
 		jframe.addWindowFocusListener(new WindowFocusListener() {
 
 			@Override
@@ -35,6 +45,17 @@ public class GameWindow {
 
 	}
 	
+	/**
+	 * Schaltet in exklusives Vollbild, wenn das Gerät es unterstützt, sonst wird das Fenster maximiert.
+	 */
+	private void enterFullscreen() {
+		GraphicsDevice device = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice();
+		if (device.isFullScreenSupported())
+			device.setFullScreenWindow(jframe);
+		else
+			jframe.setExtendedState(JFrame.MAXIMIZED_BOTH);
+	}
+
 	public JFrame getJFrame() {
 		return jframe;
 	}
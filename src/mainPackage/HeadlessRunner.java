@@ -0,0 +1,92 @@
+package mainPackage;
+
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Paths;
+
+import entities.Player;
+import inputs.Replay;
+import render.SpriteRegistry;
+import render.SpriteVariants;
+import utilz.LoadSave;
+
+/**
+ * Der HeadlessRunner startet eine Spielsitzung ohne Fenster, Swing und Audio und misst den
+ * Simulationsdurchsatz. Gedacht für automatisierte Regressionsläufe und Messungen.
+ *
+ * Aufruf: {@code HeadlessRunner [level] [ticks] [ups] [render]}
+ * <ul>
+ * <li>level: Index des Start-Levels (Standard 0)</li>
+ * <li>ticks: Anzahl der Simulationsschritte (Standard 20000)</li>
+ * <li>ups: feste Schrittrate, 0 für maximale Geschwindigkeit (Standard 0)</li>
+ * <li>render: true, um nach jedem Schritt in ein Offscreen-Bild zu zeichnen (Standard false)</li>
+ * </ul>
+ *
+ * Wiedergabe: {@code HeadlessRunner replay <datei>} spielt eine Aufzeichnung so schnell wie
+ * möglich ab und gibt den Durchsatz sowie den Endzustand des Spielers aus. Gleiche Datei und
+ * gleicher Code liefern immer denselben Endzustand.
+ */
+public class HeadlessRunner {
+
+    /**
+     * Der Einstiegspunkt für Headless-Läufe.
+     *
+     * @param args Die Befehlszeilenargumente, siehe Klassenbeschreibung.
+     * @throws IOException Wenn eine Replay-Datei nicht gelesen werden kann.
+     */
+    public static void main(String[] args) throws IOException {
+        System.setProperty("java.awt.headless", "true");
+
+        if (args.length > 1 && args[0].equals("replay")) {
+            playReplay(Replay.load(Paths.get(args[1])));
+            return;
+        }
+
+        int level = args.length > 0 ? Integer.parseInt(args[0]) : 0;
+        int ticks = args.length > 1 ? Integer.parseInt(args[1]) : 20000;
+        int ups = args.length > 2 ? Integer.parseInt(args[2]) : 0;
+        boolean render = args.length > 3 && Boolean.parseBoolean(args[3]);
+
+        Game game = new Game(true);
+        game.startHeadless(level);
+
+        long nanos;
+        if (render) {
+            BufferedImage frame = LoadSave.CreateCompatibleImage(Game.GAME_WIDTH, Game.GAME_HEIGHT, Transparency.OPAQUE);
+            long start = System.nanoTime();
+            for (int i = 0; i < ticks; i++) {
+                game.runHeadless(1, ups);
+                game.renderOffscreen(frame);
+            }
+            nanos = System.nanoTime() - start;
+        } else
+            nanos = game.runHeadless(ticks, ups);
+
+        double seconds = nanos / 1_000_000_000.0;
+        System.out.printf("Level %d: %d Ticks in %.3f s -> %.0f Ticks/s (%.1fx Echtzeit bei %d UPS)%s%n", level, ticks, seconds, ticks / seconds,
+                ticks / seconds / Game.UPS_SET, Game.UPS_SET, render ? ", mit Rendern" : "");
+        if (render) {
+            System.out.println(SpriteRegistry.report());
+            System.out.println(SpriteVariants.report());
+        }
+    }
+
+    private static void playReplay(Replay replay) {
+        Game game = new Game(true);
+        game.startHeadless(replay.getLevelIndex());
+        game.getPlaying().playReplay(replay);
+
+        long ticks = 0;
+        long start = System.nanoTime();
+        while (game.getPlaying().isPlayingBack()) {
+            game.step();
+            ticks++;
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        Player player = game.getPlaying().getPlayer();
+        System.out.printf("Replay: %d Ticks in %.3f s -> %.0f Ticks/s (%.1fx Echtzeit)%n", ticks, seconds, ticks / seconds, ticks / seconds / Game.UPS_SET);
+        System.out.printf("Endzustand: Level %d, Spieler x=%.2f y=%.2f%n", game.getPlaying().getLevelManager().getLevelIndex(), player.getHitbox().x, player.getHitbox().y);
+    }
+}
@@ -0,0 +1,176 @@
+package mainPackage;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Die LoopStats-Klasse sammelt Messwerte der Spielschleife (Frames, Updates, Wartezeiten)
+ * und fasst sie einmal pro Messfenster zusammen.
+ * Die CPU-Last des Spiel-Threads wird mit der bisherigen Busy-Spin-Schleife verglichen,
+ * die dauerhaft einen vollen Kern belegt hat.
+ */
+public class LoopStats {
+
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    private final boolean cpuTimeSupported = threadBean.isCurrentThreadCpuTimeSupported();
+
+    private int updates;
+    // Frames werden u.U. vom Render-Thread, präsentierte Frames vom EDT gezählt (passives Rendern).
+    private final AtomicInteger frames = new AtomicInteger();
+    private final AtomicInteger presented = new AtomicInteger();
+    private final AtomicInteger lost = new AtomicInteger();
+    private long parkedNanos, spunNanos;
+    private long droppedUpdates, droppedNanos;
+    private long totalDroppedNanos;
+    private long windowStart = System.nanoTime();
+    private long windowCpuStart = -1;
+
+    private volatile int lastFps, lastUps, lastRequested, lastDropped;
+    private volatile float lastCpuLoad;
+
+    /**
+     * Zählt ein ausgeführtes Update.
+     */
+    public void countUpdate() {
+        updates++;
+    }
+
+    /**
+     * Zählt einen angeforderten Frame.
+     */
+    public void countFrame() {
+        frames.incrementAndGet();
+    }
+
+    /**
+     * Zählt einen tatsächlich gezeichneten und präsentierten Frame.
+     */
+    public void countPresented() {
+        presented.incrementAndGet();
+    }
+
+    /**
+     * Zählt einen Frame, dessen Pufferinhalt verloren ging und der neu gezeichnet werden musste.
+     */
+    public void countLost() {
+        lost.incrementAndGet();
+    }
+
+    /**
+     * Addiert Zeit, in der der Spiel-Thread geparkt war.
+     *
+     * @param nanos Die Dauer in Nanosekunden.
+     */
+    public void addParked(long nanos) {
+        parkedNanos += nanos;
+    }
+
+    /**
+     * Addiert Zeit, in der der Spiel-Thread aktiv auf eine Frist gewartet hat.
+     *
+     * @param nanos Die Dauer in Nanosekunden.
+     */
+    public void addSpun(long nanos) {
+        spunNanos += nanos;
+    }
+
+    /**
+     * Zählt Updates, die nach Erreichen der Nachhol-Grenze verworfen wurden.
+     *
+     * @param updates Die Anzahl der verworfenen Updates.
+     * @param nanos   Die verworfene Spielzeit in Nanosekunden.
+     */
+    public void addDropped(long updates, long nanos) {
+        droppedUpdates += updates;
+        droppedNanos += nanos;
+        totalDroppedNanos += nanos;
+    }
+
+    /**
+     * Schließt das aktuelle Messfenster ab, beginnt ein neues und liefert eine Zusammenfassung.
+     * Muss vom Spiel-Thread aufgerufen werden, da dessen CPU-Zeit gemessen wird.
+     *
+     * @return Die Zusammenfassung des abgelaufenen Messfensters.
+     */
+    public String report() {
+        long now = System.nanoTime();
+        long wall = Math.max(1, now - windowStart);
+        long cpuNow = cpuTimeSupported ? threadBean.getCurrentThreadCpuTime() : -1;
+
+        float cpuLoad;
+        if (cpuNow >= 0 && windowCpuStart >= 0)
+            cpuLoad = (cpuNow - windowCpuStart) / (float) wall;
+        else
+            cpuLoad = 1f - parkedNanos / (float) wall;
+        cpuLoad = Math.max(0f, Math.min(cpuLoad, 1f));
+
+        int requestedFrames = frames.getAndSet(0);
+        int presentedFrames = presented.getAndSet(0);
+        int lostFrames = lost.getAndSet(0);
+        int droppedFrames = Math.max(0, requestedFrames - presentedFrames);
+
+        lastFps = presentedFrames;
+        lastUps = updates;
+        lastRequested = requestedFrames;
+        lastDropped = droppedFrames;
+        lastCpuLoad = cpuLoad;
+
+        String report = String.format("FPS: %d (angefordert: %d, zusammengefasst/verworfen: %d, verloren: %d) | UPS: %d | CPU: %.1f%% (gespart ggü. Busy-Spin: %.1f%%) | geparkt: %d ms, Spin: %d ms | verworfen: %d Updates (%d ms)",
+                presentedFrames, requestedFrames, droppedFrames, lostFrames, updates, cpuLoad * 100f, (1f - cpuLoad) * 100f, parkedNanos / 1_000_000, spunNanos / 1_000_000, droppedUpdates, droppedNanos / 1_000_000);
+
+        updates = 0;
+        parkedNanos = 0;
+        spunNanos = 0;
+        droppedUpdates = 0;
+        droppedNanos = 0;
+        windowStart = now;
+        windowCpuStart = cpuNow;
+        return report;
+    }
+
+    /**
+     * Gibt die seit Spielstart insgesamt verworfene Spielzeit zurück.
+     *
+     * @return Die verworfene Zeit in Nanosekunden.
+     */
+    public long getTotalDroppedNanos() {
+        return totalDroppedNanos;
+    }
+
+    /**
+     * Gibt die Anzahl der im letzten Messfenster tatsächlich präsentierten Frames zurück.
+     *
+     * @return Die präsentierten Frames pro Sekunde.
+     */
+    public int getFps() {
+        return lastFps;
+    }
+
+    public int getRequestedFrames() {
+        return lastRequested;
+    }
+
+    /**
+     * Gibt die Anzahl der im letzten Messfenster angeforderten, aber nicht präsentierten Frames zurück.
+     *
+     * @return Die zusammengefassten bzw. verworfenen Frames.
+     */
+    public int getDroppedFrames() {
+        return lastDropped;
+    }
+
+    public int getUps() {
+        return lastUps;
+    }
+
+    /**
+     * Gibt die CPU-Last des Spiel-Threads im letzten Messfenster zurück.
+     * Die alte Busy-Spin-Schleife lag hier konstant bei 1.0.
+     *
+     * @return Die CPU-Last zwischen 0.0 und 1.0.
+     */
+    public float getCpuLoad() {
+        return lastCpuLoad;
+    }
+}
@@ -0,0 +1,140 @@
+package mainPackage;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Der QualityGovernor misst pro Frame die Zeit für Updates und Zeichnen und vergleicht sie mit
+ * dem Frame-Budget von {@link Game#FPS_SET}. Ist das Budget dauerhaft ausgeschöpft, wird die
+ * Qualitätsstufe gesenkt, bleibt dauerhaft viel Luft, wird sie wieder angehoben. Zwischen den
+ * Schwellen und durch Mindestwartezeiten nach jedem Wechsel entsteht eine Hysterese, damit die
+ * Stufe nicht hin und her springt.
+ *
+ * Stufen: 0 volle Qualität, 1 weniger Regen und engere Dekorationsgrenzen, 2 zusätzlich ohne
+ * Baumanimation, 3 ohne Regen und ohne Interpolation.
+ */
+public class QualityGovernor {
+
+    public static final int MAX_LEVEL = 3;
+
+    // Anteil des Budgets, ab dem gesenkt bzw. unter dem angehoben wird
+    private static final float DOWN_THRESHOLD = 0.9f;
+    private static final float UP_THRESHOLD = 0.5f;
+    // Wartezeit nach einem Wechsel, bevor erneut gesenkt bzw. angehoben wird
+    private static final long DOWN_DELAY = 500_000_000L;
+    private static final long UP_DELAY = 3_000_000_000L;
+    private static final float SMOOTHING = 0.1f;
+
+    private static final float[] RAIN_DENSITY = { 1f, 0.5f, 0.25f, 0f };
+    private static final int[] DECORATION_MARGIN = { Game.GAME_WIDTH, Game.TILES_SIZE * 4, Game.TILES_SIZE, Game.TILES_SIZE };
+
+    private final boolean adaptive;
+    private final double frameBudget = 1000000000.0 / Game.FPS_SET;
+    private final AtomicLong updateNanos = new AtomicLong();
+
+    private volatile int level;
+    private volatile int transitions;
+    private volatile float load, updateMillis, renderMillis;
+    private long lastChange = System.nanoTime();
+
+    /**
+     * Konstruiert den Governor.
+     *
+     * @param adaptive false, um immer in voller Qualität zu zeichnen.
+     */
+    public QualityGovernor(boolean adaptive) {
+        this.adaptive = adaptive;
+    }
+
+    /**
+     * Addiert die Dauer eines Updates. Wird vom Spiel-Thread aufgerufen.
+     *
+     * @param nanos Die Dauer in Nanosekunden.
+     */
+    public void addUpdateNanos(long nanos) {
+        updateNanos.addAndGet(nanos);
+    }
+
+    /**
+     * Schließt einen Frame ab und passt gegebenenfalls die Qualitätsstufe an.
+     * Wird vom zeichnenden Thread aufgerufen.
+     *
+     * @param renderNanos Die Zeit zum Zeichnen des Frames in Nanosekunden.
+     * @param parallel    true, wenn Updates und Zeichnen auf verschiedenen Threads laufen.
+     */
+    public synchronized void frameRendered(long renderNanos, boolean parallel) {
+        long update = updateNanos.getAndSet(0);
+        double cost = parallel ? Math.max(update, renderNanos) : update + renderNanos;
+
+        load += SMOOTHING * ((float) (cost / frameBudget) - load);
+        updateMillis += SMOOTHING * (update / 1_000_000f - updateMillis);
+        renderMillis += SMOOTHING * (renderNanos / 1_000_000f - renderMillis);
+
+        if (!adaptive)
+            return;
+
+        long now = System.nanoTime();
+        long sinceChange = now - lastChange;
+        if (load > DOWN_THRESHOLD && level < MAX_LEVEL && sinceChange >= DOWN_DELAY)
+            changeLevel(level + 1, now);
+        else if (load < UP_THRESHOLD && level > 0 && sinceChange >= UP_DELAY)
+            changeLevel(level - 1, now);
+    }
+
+    private void changeLevel(int newLevel, long now) {
+        level = newLevel;
+        transitions++;
+        lastChange = now;
+    }
+
+    /**
+     * Gibt den Anteil der Regentropfen zurück, die bei der aktuellen Stufe simuliert und gezeichnet werden.
+     *
+     * @return Ein Wert zwischen 0 und 1.
+     */
+    public float getRainDensity() {
+        return RAIN_DENSITY[level];
+    }
+
+    /**
+     * Gibt zurück, wie weit außerhalb des Bildschirms Bäume und Gras noch gezeichnet werden.
+     *
+     * @return Der Rand in Pixeln.
+     */
+    public int getDecorationMargin() {
+        return DECORATION_MARGIN[level];
+    }
+
+    public boolean isTreeAnimation() {
+        return level < 2;
+    }
+
+    public boolean isInterpolation() {
+        return level < 3;
+    }
+
+    /**
+     * Fasst Stufe und Messwerte für die Ausgabe der Spielschleife zusammen.
+     *
+     * @return Die Zusammenfassung.
+     */
+    public String report() {
+        return String.format("Qualität: %d (Wechsel: %d, Last: %.0f%%, Update: %.2f ms, Zeichnen: %.2f ms pro Frame)", level, transitions, load * 100f, updateMillis, renderMillis);
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getTransitions() {
+        return transitions;
+    }
+
+    /**
+     * Gibt die geglättete Auslastung des Frame-Budgets zurück.
+     *
+     * @return Die Auslastung, 1.0 entspricht dem vollen Budget.
+     */
+    public float getLoad() {
+        return load;
+    }
+}
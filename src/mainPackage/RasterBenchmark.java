@@ -0,0 +1,73 @@
+package mainPackage;
+
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+
+import render.SoftwareRasterizer;
+import utilz.LoadSave;
+
+/**
+ * Der RasterBenchmark vergleicht die Zeichenzeit eines ganzen Spielframes über Java2D mit dem
+ * {@link SoftwareRasterizer} bei steigender Anzahl Threads (1, 2, 4, ... bis zur Anzahl der
+ * Prozessoren). Gezeichnet wird headless aus Render-Snapshots in ein bildschirmkompatibles
+ * Bild, also auf demselben Weg wie der Render-Thread in den Backbuffer.
+ *
+ * Aufruf: {@code RasterBenchmark [sekunden] [level]} (Standard 2 Sekunden pro Messung, Level 0)
+ */
+public class RasterBenchmark {
+
+    // Ticks bis zur Messung, damit Feinde, Regen und Kamera in Bewegung sind
+    private static final int WARMUP_TICKS = 400;
+
+    /**
+     * Der Einstiegspunkt des Benchmarks.
+     *
+     * @param args Optional die Messdauer in Sekunden und der Level-Index.
+     */
+    public static void main(String[] args) {
+        double seconds = args.length > 0 ? Double.parseDouble(args[0]) : 2.0;
+        int level = args.length > 1 ? Integer.parseInt(args[1]) : 0;
+        int cpus = Runtime.getRuntime().availableProcessors();
+
+        Game game = new Game(true, true);
+        game.startHeadless(level);
+        for (int i = 0; i < WARMUP_TICKS; i++)
+            game.step();
+        BufferedImage target = LoadSave.CreateCompatibleImage(Game.GAME_WIDTH, Game.GAME_HEIGHT, Transparency.OPAQUE);
+
+        System.out.printf("Level %d, %dx%d, %d Prozessoren%n", level, Game.GAME_WIDTH, Game.GAME_HEIGHT, cpus);
+        game.setRasterizer(null);
+        double java2d = measure(game, target, seconds);
+        System.out.printf("Java2D: %.3f ms/Frame%n", java2d);
+
+        for (int threads = 1; ; threads = Math.min(cpus, threads * 2)) {
+            SoftwareRasterizer rasterizer = new SoftwareRasterizer(threads);
+            game.setRasterizer(rasterizer);
+            double software = measure(game, target, seconds);
+            System.out.printf("Software, %d Threads: %.3f ms/Frame (%.2fx) | %s%n", threads, software, java2d / software, rasterizer.report());
+            if (threads == cpus)
+                break;
+        }
+    }
+
+    /**
+     * Zeichnet den Frame wiederholt, bis die Messdauer abgelaufen ist. Eine kurze Aufwärmphase
+     * vorab lässt den JIT und die Bild-Caches greifen.
+     */
+    private static double measure(Game game, BufferedImage target, double seconds) {
+        draw(game, target, (long) (seconds * 0.25 * 1_000_000_000L));
+        long start = System.nanoTime();
+        long frames = draw(game, target, (long) (seconds * 1_000_000_000L));
+        return (System.nanoTime() - start) / 1_000_000.0 / frames;
+    }
+
+    private static long draw(Game game, BufferedImage target, long nanos) {
+        long end = System.nanoTime() + nanos;
+        long frames = 0;
+        while (System.nanoTime() < end) {
+            game.renderOffscreen(target);
+            frames++;
+        }
+        return frames;
+    }
+}
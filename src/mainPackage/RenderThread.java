@@ -0,0 +1,44 @@
+package mainPackage;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Der RenderThread zeichnet mit {@link Game#FPS_SET} Bildern pro Sekunde unabhängig vom
+ * Spiel-Thread. Im Spielzustand liest er ausschließlich den zuletzt veröffentlichten
+ * Render-Snapshot, so dass Simulation und Zeichnen auf getrennten Kernen laufen können,
+ * ohne sich gegenseitig zu sperren.
+ */
+public class RenderThread extends Thread {
+
+    private final Game game;
+
+    /**
+     * Konstruiert den Render-Thread.
+     *
+     * @param game Die Spielinstanz, deren Frames gezeichnet werden.
+     */
+    public RenderThread(Game game) {
+        super("Render");
+        this.game = game;
+        setDaemon(true);
+    }
+
+    @Override
+    public void run() {
+        long timePerFrame = 1_000_000_000L / Game.FPS_SET;
+        long next = System.nanoTime();
+
+        while (!isInterrupted()) {
+            game.renderFrame();
+            game.getLoopStats().countFrame();
+
+            next += timePerFrame;
+            long remaining = next - System.nanoTime();
+            if (remaining > 0)
+                LockSupport.parkNanos(remaining);
+            else if (-remaining > timePerFrame)
+                // Mehr als einen Frame hinterher: nicht nachholen, sondern neu ansetzen.
+                next = System.nanoTime();
+        }
+    }
+}
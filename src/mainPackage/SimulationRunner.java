@@ -0,0 +1,213 @@
+package mainPackage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import entities.Player;
+import gamestates.Playing;
+import inputs.PlayerInput;
+import utilz.LoadSave;
+
+/**
+ * Der SimulationRunner spielt viele unabhängige Headless-Sitzungen parallel auf einem
+ * Thread-Pool, jede mit eigener Spielinstanz, eigenem Level-Zustand und einem einfachen Bot
+ * als Eingabe. Am Ende werden Abschlussrate, Spielzeit bis zum Ziel und Tode pro Level
+ * zusammengefasst, dazu der Durchsatz in Sitzungen pro Sekunde.
+ *
+ * Aufruf: {@code SimulationRunner [sitzungen] [level] [maxSekunden] [threads] [skalierung]}
+ * <ul>
+ * <li>sitzungen: Anzahl der Sitzungen (Standard 200)</li>
+ * <li>level: Level-Index, oder -1 für alle Level reihum (Standard -1)</li>
+ * <li>maxSekunden: Spielzeit, nach der eine Sitzung abgebrochen wird (Standard 60)</li>
+ * <li>threads: Größe des Thread-Pools (Standard: Anzahl der Kerne)</li>
+ * <li>skalierung: true, um den Lauf mit 1, 2, 4 ... Threads zu wiederholen (Standard false)</li>
+ * </ul>
+ */
+public class SimulationRunner {
+
+    /**
+     * Das Ergebnis einer einzelnen Sitzung.
+     */
+    public record SessionResult(int level, boolean completed, long ticks, int deaths) {
+    }
+
+    /**
+     * Der Einstiegspunkt für Simulationsläufe.
+     *
+     * @param args Die Befehlszeilenargumente, siehe Klassenbeschreibung.
+     * @throws InterruptedException Wenn der Lauf unterbrochen wird.
+     * @throws ExecutionException   Wenn eine Sitzung mit einer Ausnahme abbricht.
+     */
+    public static void main(String[] args) throws InterruptedException, ExecutionException {
+        System.setProperty("java.awt.headless", "true");
+
+        int sessions = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        int level = args.length > 1 ? Integer.parseInt(args[1]) : -1;
+        int maxSeconds = args.length > 2 ? Integer.parseInt(args[2]) : 60;
+        int cores = Runtime.getRuntime().availableProcessors();
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : cores;
+        boolean scaling = args.length > 4 && Boolean.parseBoolean(args[4]);
+
+        // Eine Instanz vorab auf dem Hauptthread, damit Ressourcen und Sprites nur einmal geladen werden
+        new Game(true);
+
+        if (!scaling) {
+            run(sessions, level, maxSeconds * Game.UPS_SET, threads, true);
+            return;
+        }
+
+        // Verworfener Aufwärmlauf, damit der JIT nicht den ersten Lauf (die Basis) bremst
+        run(Math.max(1, sessions / 4), level, maxSeconds * Game.UPS_SET, 1, false);
+
+        double single = 0;
+        for (int t = 1; ; t = Math.min(threads, t * 2)) {
+            double perSecond = run(sessions, level, maxSeconds * Game.UPS_SET, t, false);
+            if (t == 1)
+                single = perSecond;
+            System.out.printf("%2d Threads: %.1f Sitzungen/s, Beschleunigung %.2fx, Effizienz %.0f%% (%d Kerne)%n", t, perSecond, perSecond / single,
+                    perSecond / single / t * 100, cores);
+            if (t >= threads)
+                break;
+        }
+    }
+
+    /**
+     * Führt alle Sitzungen auf einem Pool fester Größe aus.
+     *
+     * @param sessions Die Anzahl der Sitzungen.
+     * @param level    Der Level-Index, oder -1 für alle Level reihum.
+     * @param maxTicks Die maximale Anzahl an Ticks pro Sitzung.
+     * @param threads  Die Größe des Thread-Pools.
+     * @param report   true, um die Auswertung auszugeben.
+     * @return Die Anzahl der Sitzungen pro Sekunde.
+     * @throws InterruptedException Wenn der Lauf unterbrochen wird.
+     * @throws ExecutionException   Wenn eine Sitzung mit einer Ausnahme abbricht.
+     */
+    public static double run(int sessions, int level, int maxTicks, int threads, boolean report) throws InterruptedException, ExecutionException {
+        int levelCount = LoadSave.getAllLevels().length;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<SessionResult>> futures = new ArrayList<>(sessions);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < sessions; i++) {
+            int sessionLevel = level >= 0 ? level : i % levelCount;
+            long seed = i;
+            futures.add(pool.submit(() -> runSession(sessionLevel, seed, maxTicks)));
+        }
+
+        List<SessionResult> results = new ArrayList<>(sessions);
+        for (Future<SessionResult> f : futures)
+            results.add(f.get());
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        pool.shutdown();
+
+        if (report)
+            printReport(results, levelCount, seconds, threads);
+        return sessions / seconds;
+    }
+
+    /**
+     * Spielt eine Sitzung, bis das Level geschafft ist oder die Zeit abläuft. Nach jedem Tod
+     * wird das Level neu gestartet.
+     *
+     * @param level    Der Level-Index.
+     * @param seed     Der Startwert für Spiel und Bot.
+     * @param maxTicks Die maximale Anzahl an Ticks.
+     * @return Das Ergebnis der Sitzung.
+     */
+    public static SessionResult runSession(int level, long seed, int maxTicks) {
+        Game game = new Game(true);
+        game.startHeadless(level, seed);
+        Playing playing = game.getPlaying();
+        Bot bot = new Bot(seed);
+
+        int deaths = 0;
+        boolean dead = false;
+        long ticks = 0;
+        while (ticks < maxTicks) {
+            if (playing.isLevelCompleted() || playing.isGameCompleted())
+                return new SessionResult(level, true, ticks, deaths);
+
+            if (playing.isGameOver()) {
+                if (!dead)
+                    deaths++;
+                dead = true;
+                playing.requestRestart();
+            } else {
+                dead = false;
+                bot.act(playing.getPlayerInput(), playing.getPlayer());
+            }
+            game.step();
+            ticks++;
+        }
+        return new SessionResult(level, false, ticks, deaths);
+    }
+
+    private static void printReport(List<SessionResult> results, int levelCount, double seconds, int threads) {
+        int[] sessionsPerLevel = new int[levelCount];
+        int[] completedPerLevel = new int[levelCount];
+        int[] deathsPerLevel = new int[levelCount];
+        long[] ticksPerLevel = new long[levelCount];
+        long totalTicks = 0;
+        int completed = 0;
+
+        for (SessionResult r : results) {
+            sessionsPerLevel[r.level()]++;
+            deathsPerLevel[r.level()] += r.deaths();
+            totalTicks += r.ticks();
+            if (r.completed()) {
+                completed++;
+                completedPerLevel[r.level()]++;
+                ticksPerLevel[r.level()] += r.ticks();
+            }
+        }
+
+        System.out.printf("%d Sitzungen auf %d Threads in %.2f s: %.1f Sitzungen/s, %.0f Ticks/s%n", results.size(), threads, seconds, results.size() / seconds,
+                totalTicks / seconds);
+        System.out.printf("Abschlussrate: %.1f%%%n", completed * 100.0 / results.size());
+        for (int i = 0; i < levelCount; i++) {
+            if (sessionsPerLevel[i] == 0)
+                continue;
+            double avgSeconds = completedPerLevel[i] > 0 ? ticksPerLevel[i] / (double) completedPerLevel[i] / Game.UPS_SET : 0;
+            System.out.printf("Level %d: %d Sitzungen, geschafft %.1f%%, Ø Zeit bis zum Ziel %.1f s, Tode pro Sitzung %.2f%n", i, sessionsPerLevel[i],
+                    completedPerLevel[i] * 100.0 / sessionsPerLevel[i], avgSeconds, deathsPerLevel[i] / (double) sessionsPerLevel[i]);
+        }
+    }
+
+    /**
+     * Ein einfacher Bot: läuft nach rechts, kehrt gelegentlich um, springt bei Hindernissen
+     * und greift in unregelmäßigen Abständen an.
+     */
+    private static class Bot {
+
+        private final Random rnd;
+        private float lastX;
+        private int stuckTicks, turnTicks;
+
+        Bot(long seed) {
+            rnd = new Random(seed);
+        }
+
+        void act(PlayerInput input, Player player) {
+            float x = player.getHitbox().x;
+            stuckTicks = Math.abs(x - lastX) < 0.01f ? stuckTicks + 1 : 0;
+            lastX = x;
+
+            if (turnTicks > 0)
+                turnTicks--;
+            else if (stuckTicks > Game.UPS_SET || rnd.nextInt(Game.UPS_SET * 4) == 0)
+                turnTicks = Game.UPS_SET / 2 + rnd.nextInt(Game.UPS_SET);
+
+            input.set(PlayerInput.RIGHT, turnTicks == 0);
+            input.set(PlayerInput.LEFT, turnTicks > 0);
+            input.set(PlayerInput.JUMP, stuckTicks > 5 || rnd.nextInt(Game.UPS_SET) == 0);
+            if (rnd.nextInt(Math.max(1, Game.UPS_SET / 4)) == 0)
+                input.fire(PlayerInput.ATTACK);
+        }
+    }
+}
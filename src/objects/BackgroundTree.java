@@ -1,5 +1,7 @@
 package objects;
 
+import static utilz.Constants.MillisToTicks;
+
 import java.util.Random;
 
 /**
@@ -8,6 +10,8 @@ import java.util.Random;
  */
 public class BackgroundTree {
 
+    private static final int TREE_ANI_SPEED = MillisToTicks(175);
+
     private int x, y, type, aniIndex, aniTick;
 
     /**
@@ -16,15 +20,15 @@ public class BackgroundTree {
      * @param x    Die X-Koordinate des Baumes.
      * @param y    Die Y-Koordinate des Baumes.
      * @param type Der Typ des Baumes.
+     * @param rnd  Der Zufallsgenerator der Spielsitzung, damit Wiederholungen gleich ablaufen.
      */
-    public BackgroundTree(int x, int y, int type) {
+    public BackgroundTree(int x, int y, int type, Random rnd) {
         this.x = x;
         this.y = y;
         this.type = type;
 
         // Setzt den aniIndex auf einen zufälligen Wert, um Variationen für die Bäume zu erhalten.
-        Random r = new Random();
-        aniIndex = r.nextInt(4);
+        aniIndex = rnd.nextInt(4);
     }
 
     /**
@@ -32,7 +36,7 @@ public class BackgroundTree {
      */
     public void update() {
         aniTick++;
-        if (aniTick >= 35) {
+        if (aniTick >= TREE_ANI_SPEED) {
             aniTick = 0;
             aniIndex++;
             if (aniIndex >= 4)
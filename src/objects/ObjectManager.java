@@ -10,6 +10,9 @@ import entities.Player;
 import gamestates.Playing;
 import levels.Level;
 import mainPackage.Game;
+import render.Culling;
+import render.RenderSnapshot;
+import render.SpriteRegistry;
 import utilz.LoadSave;
 import static utilz.Constants.ObjectConstants.*;
 import static utilz.HelpMethods.CanCannonSeePlayer;
@@ -23,14 +26,17 @@ public class ObjectManager {
 
 	private Playing playing;
 	private BufferedImage[][] potionImgs, containerImgs;
-	private BufferedImage[] cannonImgs, grassImgs;
+	private BufferedImage[] cannonImgs;
 	private BufferedImage[][] treeImgs;
 	private BufferedImage spikeImg, cannonBallImg;
+	private int[] potionIds, containerIds, treeIds;
+	private int cannonId, spikeId, cannonBallId;
 	private ArrayList<Potion> potions;
 	private ArrayList<GameContainer> containers;
 	private ArrayList<Projectile> projectiles = new ArrayList<>();
 
 	private Level currentLevel;
+	private boolean treeAnimation = true;
 
 	/**
      * Konstruktor für die {@code ObjectManager}-Klasse.
@@ -130,14 +136,14 @@ public class ObjectManager {
 
 		for (int j = 0; j < potionImgs.length; j++)
 			for (int i = 0; i < potionImgs[j].length; i++)
-				potionImgs[j][i] = potionSprite.getSubimage(12 * i, 16 * j, 12, 16);
+				potionImgs[j][i] = LoadSave.GetSubimage(potionSprite, 12 * i, 16 * j, 12, 16);
 
 		BufferedImage containerSprite = LoadSave.GetSpriteAtlas(LoadSave.CONTAINER_ATLAS);
 		containerImgs = new BufferedImage[2][8];
 
 		for (int j = 0; j < containerImgs.length; j++)
 			for (int i = 0; i < containerImgs[j].length; i++)
-				containerImgs[j][i] = containerSprite.getSubimage(40 * i, 30 * j, 40, 30);
+				containerImgs[j][i] = LoadSave.GetSubimage(containerSprite, 40 * i, 30 * j, 40, 30);
 
 		spikeImg = LoadSave.GetSpriteAtlas(LoadSave.TRAP_ATLAS);
 
@@ -145,26 +151,29 @@ public class ObjectManager {
 		BufferedImage temp = LoadSave.GetSpriteAtlas(LoadSave.CANNON_ATLAS);
 
 		for (int i = 0; i < cannonImgs.length; i++)
-			cannonImgs[i] = temp.getSubimage(i * 40, 0, 40, 26);
+			cannonImgs[i] = LoadSave.GetSubimage(temp, i * 40, 0, 40, 26);
 
 		cannonBallImg = LoadSave.GetSpriteAtlas(LoadSave.CANNON_BALL);
 		treeImgs = new BufferedImage[2][4];
 		BufferedImage treeOneImg = LoadSave.GetSpriteAtlas(LoadSave.TREE_ONE_ATLAS);
 		for (int i = 0; i < 4; i++)
-			treeImgs[0][i] = treeOneImg.getSubimage(i * 39, 0, 39, 92);
+			treeImgs[0][i] = LoadSave.GetSubimage(treeOneImg, i * 39, 0, 39, 92);
 
 		BufferedImage treeTwoImg = LoadSave.GetSpriteAtlas(LoadSave.TREE_TWO_ATLAS);
 		for (int i = 0; i < 4; i++)
-			treeImgs[1][i] = treeTwoImg.getSubimage(i * 62, 0, 62, 54);
-
-		BufferedImage grassTemp = LoadSave.GetSpriteAtlas(LoadSave.GRASS_ATLAS);
-		grassImgs = new BufferedImage[2];
-		for (int i = 0; i < grassImgs.length; i++)
-			grassImgs[i] = grassTemp.getSubimage(32 * i, 0, 32, 32);
+			treeImgs[1][i] = LoadSave.GetSubimage(treeTwoImg, i * 62, 0, 62, 54);
+
+		potionIds = SpriteRegistry.register(LoadSave.POTION_ATLAS, potionImgs);
+		containerIds = SpriteRegistry.register(LoadSave.CONTAINER_ATLAS, containerImgs);
+		treeIds = SpriteRegistry.register(LoadSave.TREE_ONE_ATLAS + "+" + LoadSave.TREE_TWO_ATLAS, treeImgs);
+		cannonId = SpriteRegistry.register(LoadSave.CANNON_ATLAS, cannonImgs);
+		spikeId = SpriteRegistry.register(LoadSave.TRAP_ATLAS, spikeImg);
+		cannonBallId = SpriteRegistry.register(LoadSave.CANNON_BALL, cannonBallImg);
 	}
 
 	public void update(int[][] lvlData, Player player) {
-		updateBackgroundTrees();
+		if (treeAnimation)
+			updateBackgroundTrees();
 		for (Potion p : potions)
 			if (p.isActive())
 				p.update();
@@ -239,18 +248,6 @@ public class ObjectManager {
 		drawTraps(g, xLvlOffset);
 		drawCannons(g, xLvlOffset);
 		drawProjectiles(g, xLvlOffset);
-		drawGrass(g, xLvlOffset);
-	}
-
-	/**
-	 * Zeichnet die Grasobjekte auf dem Bildschirm.
-	 *
-	 * @param g          Die Graphics-Instanz zum Zeichnen.
-	 * @param xLvlOffset Der Versatz des Levels auf der X-Achse.
-	 */
-	private void drawGrass(Graphics g, int xLvlOffset) {
-		for (Grass grass : currentLevel.getGrass())
-			g.drawImage(grassImgs[grass.getType()], grass.getX() - xLvlOffset, grass.getY(), (int) (32 * Game.SCALE), (int) (32 * Game.SCALE), null);
 	}
 
 	/**
@@ -261,12 +258,13 @@ public class ObjectManager {
 	 */
 	public void drawBackgroundTrees(Graphics g, int xLvlOffset) {
 		for (BackgroundTree bt : currentLevel.getTrees()) {
-
+			int x = bt.getX() - xLvlOffset + GetTreeOffsetX(bt.getType());
+			if (!Culling.isOnScreen(x, GetTreeWidth(bt.getType())))
+				continue;
 			int type = bt.getType();
 			if (type == 9)
 				type = 8;
-			g.drawImage(treeImgs[type - 7][bt.getAniIndex()], bt.getX() - xLvlOffset + GetTreeOffsetX(bt.getType()), (int) (bt.getY() + GetTreeOffsetY(bt.getType())), GetTreeWidth(bt.getType()),
-					GetTreeHeight(bt.getType()), null);
+			g.drawImage(treeImgs[type - 7][bt.getAniIndex()], x, (int) (bt.getY() + GetTreeOffsetY(bt.getType())), GetTreeWidth(bt.getType()), GetTreeHeight(bt.getType()), null);
 		}
 	}
 
@@ -277,9 +275,11 @@ public class ObjectManager {
 	 * @param xLvlOffset Der Versatz des Levels auf der X-Achse.
 	 */
 	private void drawProjectiles(Graphics g, int xLvlOffset) {
-		for (Projectile p : projectiles)
-			if (p.isActive())
-				g.drawImage(cannonBallImg, (int) (p.getHitbox().x - xLvlOffset), (int) (p.getHitbox().y), CANNON_BALL_WIDTH, CANNON_BALL_HEIGHT, null);
+		for (Projectile p : projectiles) {
+			int x = (int) (p.getHitbox().x - xLvlOffset);
+			if (p.isActive() && Culling.isOnScreen(x, CANNON_BALL_WIDTH))
+				g.drawImage(cannonBallImg, x, (int) (p.getHitbox().y), CANNON_BALL_WIDTH, CANNON_BALL_HEIGHT, null);
+		}
 	}
 
 	/**
@@ -297,6 +297,8 @@ public class ObjectManager {
 				x += width;
 				width *= -1;
 			}
+			if (!Culling.isOnScreen(x, width))
+				continue;
 			g.drawImage(cannonImgs[c.getAniIndex()], x, (int) (c.getHitbox().y), width, CANNON_HEIGHT, null);
 		}
 	}
@@ -308,8 +310,11 @@ public class ObjectManager {
 	 * @param xLvlOffset Der Versatz des Levels auf der X-Achse.
 	 */
 	private void drawTraps(Graphics g, int xLvlOffset) {
-		for (Spike s : currentLevel.getSpikes())
-			g.drawImage(spikeImg, (int) (s.getHitbox().x - xLvlOffset), (int) (s.getHitbox().y - s.getyDrawOffset()), SPIKE_WIDTH, SPIKE_HEIGHT, null);
+		for (Spike s : currentLevel.getSpikes()) {
+			int x = (int) (s.getHitbox().x - xLvlOffset);
+			if (Culling.isOnScreen(x, SPIKE_WIDTH))
+				g.drawImage(spikeImg, x, (int) (s.getHitbox().y - s.getyDrawOffset()), SPIKE_WIDTH, SPIKE_HEIGHT, null);
+		}
 
 	}
 
@@ -320,14 +325,16 @@ public class ObjectManager {
 	 * @param xLvlOffset Der Versatz des Levels auf der X-Achse.
 	 */
 	private void drawContainers(Graphics g, int xLvlOffset) {
-		for (GameContainer gc : containers)
-			if (gc.isActive()) {
+		for (GameContainer gc : containers) {
+			int x = (int) (gc.getHitbox().x - gc.getxDrawOffset() - xLvlOffset);
+			if (gc.isActive() && Culling.isOnScreen(x, CONTAINER_WIDTH)) {
 				int type = 0;
 				if (gc.getObjType() == BARREL)
 					type = 1;
-				g.drawImage(containerImgs[type][gc.getAniIndex()], (int) (gc.getHitbox().x - gc.getxDrawOffset() - xLvlOffset), (int) (gc.getHitbox().y - gc.getyDrawOffset()), CONTAINER_WIDTH,
+				g.drawImage(containerImgs[type][gc.getAniIndex()], x, (int) (gc.getHitbox().y - gc.getyDrawOffset()), CONTAINER_WIDTH,
 						CONTAINER_HEIGHT, null);
 			}
+		}
 	}
 
 	/**
@@ -337,14 +344,92 @@ public class ObjectManager {
 	 * @param xLvlOffset Der Versatz des Levels auf der X-Achse.
 	 */
 	private void drawPotions(Graphics g, int xLvlOffset) {
-		for (Potion p : potions)
-			if (p.isActive()) {
+		for (Potion p : potions) {
+			int x = (int) (p.getHitbox().x - p.getxDrawOffset() - xLvlOffset);
+			if (p.isActive() && Culling.isOnScreen(x, POTION_WIDTH)) {
 				int type = 0;
 				if (p.getObjType() == RED_POTION)
 					type = 1;
-				g.drawImage(potionImgs[type][p.getAniIndex()], (int) (p.getHitbox().x - p.getxDrawOffset() - xLvlOffset), (int) (p.getHitbox().y - p.getyDrawOffset()), POTION_WIDTH, POTION_HEIGHT,
+				g.drawImage(potionImgs[type][p.getAniIndex()], x, (int) (p.getHitbox().y - p.getyDrawOffset()), POTION_WIDTH, POTION_HEIGHT,
 						null);
 			}
+		}
+	}
+
+	/**
+	 * Überträgt Tränke, Container, Fallen, Kanonen und Projektile in den Render-Snapshot,
+	 * in derselben Reihenfolge wie {@link #draw(Graphics, int)}. Das Gras ist in die
+	 * Kachel-Abschnitte des LevelManagers eingebacken.
+	 *
+	 * @param s Der Snapshot, in den geschrieben wird.
+	 */
+	public void submit(RenderSnapshot s) {
+		// Eigene Sortierschlüssel pro Art: Tränke liegen unter ihrer Kiste, Kugeln vor der Kanone.
+		s.setLayer(RenderSnapshot.LAYER_OBJECTS, 0);
+		for (Potion p : potions)
+			if (p.isActive())
+				s.add(potionIds[p.getObjType() == RED_POTION ? 1 : 0], p.getAniIndex(), (int) (p.getHitbox().x - p.getxDrawOffset()), (int) (p.getHitbox().y - p.getyDrawOffset()),
+						POTION_WIDTH, POTION_HEIGHT, 0);
+
+		s.setLayer(RenderSnapshot.LAYER_OBJECTS, 1);
+		for (GameContainer gc : containers)
+			if (gc.isActive())
+				s.add(containerIds[gc.getObjType() == BARREL ? 1 : 0], gc.getAniIndex(), (int) (gc.getHitbox().x - gc.getxDrawOffset()), (int) (gc.getHitbox().y - gc.getyDrawOffset()),
+						CONTAINER_WIDTH, CONTAINER_HEIGHT, 0);
+
+		s.setLayer(RenderSnapshot.LAYER_OBJECTS, 2);
+		for (Spike sp : currentLevel.getSpikes())
+			s.add(spikeId, 0, (int) sp.getHitbox().x, (int) (sp.getHitbox().y - sp.getyDrawOffset()), SPIKE_WIDTH, SPIKE_HEIGHT, 0);
+
+		s.setLayer(RenderSnapshot.LAYER_OBJECTS, 3);
+		for (Cannon c : currentLevel.getCannons())
+			s.add(cannonId, c.getAniIndex(), (int) c.getHitbox().x, (int) c.getHitbox().y, CANNON_WIDTH, CANNON_HEIGHT,
+					c.getObjType() == CANNON_RIGHT ? RenderSnapshot.FLIP_X : 0);
+
+		s.setLayer(RenderSnapshot.LAYER_OBJECTS, 4);
+		for (Projectile p : projectiles)
+			if (p.isActive())
+				s.add(cannonBallId, 0, (int) p.getHitbox().x, (int) p.getHitbox().y, (int) p.getPrevX(), (int) p.getHitbox().y, CANNON_BALL_WIDTH, CANNON_BALL_HEIGHT, 0);
+	}
+
+	/**
+	 * Merkt sich die Positionen aller aktiven Projektile zu Beginn des Ticks.
+	 */
+	public void storePrevPositions() {
+		for (Projectile p : projectiles)
+			if (p.isActive())
+				p.storePrevPos();
+	}
+
+	/**
+	 * Überträgt die Hintergrundbäume in den Render-Snapshot. Bäume weiter als
+	 * {@code decorationMargin} außerhalb des Bildschirms werden ausgelassen.
+	 *
+	 * @param s                Der Snapshot, in den geschrieben wird.
+	 * @param decorationMargin Der Rand außerhalb des Bildschirms in Pixeln.
+	 */
+	public void submitBackgroundTrees(RenderSnapshot s, int decorationMargin) {
+		int minX = s.getXLvlOffset() - decorationMargin;
+		int maxX = s.getXLvlOffset() + Game.GAME_WIDTH + decorationMargin;
+		s.setLayer(RenderSnapshot.LAYER_FOREGROUND, 0);
+		for (BackgroundTree bt : currentLevel.getTrees()) {
+			if (bt.getX() + Game.TILES_SIZE * 2 < minX || bt.getX() - Game.TILES_SIZE * 2 > maxX)
+				continue;
+			int type = bt.getType();
+			if (type == 9)
+				type = 8;
+			s.add(treeIds[type - 7], bt.getAniIndex(), bt.getX() + GetTreeOffsetX(bt.getType()), bt.getY() + GetTreeOffsetY(bt.getType()), GetTreeWidth(bt.getType()),
+					GetTreeHeight(bt.getType()), 0);
+		}
+	}
+
+	/**
+	 * Schaltet die Animation der Hintergrundbäume ein oder aus.
+	 *
+	 * @param treeAnimation false, um die Bäume auf ihrem aktuellen Frame stehen zu lassen.
+	 */
+	public void setTreeAnimation(boolean treeAnimation) {
+		this.treeAnimation = treeAnimation;
 	}
 
 	public void resetAllObjects() {
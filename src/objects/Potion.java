@@ -1,5 +1,7 @@
 package objects;
 
+import static utilz.Constants.TICK_SCALE;
+
 import mainPackage.Game;
 
 /**
@@ -39,7 +41,7 @@ public class Potion extends GameObject {
     }
 
     private void updateHover() {
-        hoverOffset += (0.075f * Game.SCALE * hoverDir);
+        hoverOffset += (0.075f * Game.SCALE * TICK_SCALE * hoverDir);
 
         if (hoverOffset >= maxHoverOffset)
             hoverDir = -1;
@@ -13,6 +13,7 @@ public class Projectile {
     private Rectangle2D.Float hitbox;
     private int dir;
     private boolean active = true;
+    private float prevX;
 
     /**
      * Konstruktor für die Projectile-Klasse.
@@ -30,6 +31,7 @@ public class Projectile {
 
         hitbox = new Rectangle2D.Float(x + xOffset, y + yOffset, CANNON_BALL_WIDTH, CANNON_BALL_HEIGHT);
         this.dir = dir;
+        prevX = hitbox.x;
     }
 
     /**
@@ -48,6 +50,24 @@ public class Projectile {
     public void setPos(int x, int y) {
         hitbox.x = x;
         hitbox.y = y;
+        prevX = x;
+    }
+
+    /**
+     * Merkt sich die aktuelle X-Koordinate als Ausgangspunkt für die Interpolation.
+     * Wird zu Beginn jedes Ticks aufgerufen.
+     */
+    public void storePrevPos() {
+        prevX = hitbox.x;
+    }
+
+    /**
+     * Gibt die X-Koordinate vom Beginn des Ticks zurück, für die Interpolation beim Zeichnen.
+     *
+     * @return Die vorherige X-Koordinate der Hitbox.
+     */
+    public float getPrevX() {
+        return prevX;
     }
 
     /**
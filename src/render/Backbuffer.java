@@ -0,0 +1,173 @@
+package render;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+
+import mainPackage.Game;
+import utilz.LoadSave;
+
+/**
+ * Die Klasse Backbuffer hält ein Bild in der festen Spielauflösung {@link Game#GAME_WIDTH} x
+ * {@link Game#GAME_HEIGHT}. Das Spiel zeichnet immer dort hinein; pro Frame wird das Bild genau
+ * einmal in die Zielfläche des Fensters skaliert, mit schwarzen Rändern bei abweichendem
+ * Seitenverhältnis.
+ * Skaliert wird ganzzahlig mit Nearest-Neighbour (Standard) oder stufenlos bilinear mit
+ * {@code -Dgame.scaleFilter=bilinear}.
+ */
+public class Backbuffer {
+
+	/** Ganzzahlige Vergrößerung mit Nearest-Neighbour, scharfe Pixel. */
+	public static final String NEAREST = "nearest";
+	/** Stufenlose bilineare Skalierung, füllt das Fenster besser aus. */
+	public static final String BILINEAR = "bilinear";
+
+	private final BufferedImage image = LoadSave.CreateCompatibleImage(Game.GAME_WIDTH, Game.GAME_HEIGHT, Transparency.OPAQUE);
+	private final boolean bilinear = BILINEAR.equalsIgnoreCase(System.getProperty("game.scaleFilter", NEAREST));
+
+	// Zielrechteck des letzten Präsentierens; wird von den Eingabe-Listenern gelesen
+	private volatile Rectangle viewport = new Rectangle(0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT);
+
+	private long presentNanos, presentCount;
+	private volatile float lastPresentMillis;
+
+	/**
+	 * Öffnet eine Grafikoberfläche auf dem Puffer. Der Aufrufer muss sie wieder freigeben.
+	 *
+	 * @return Die Grafikoberfläche in Spielauflösung.
+	 */
+	public Graphics2D createGraphics() {
+		return image.createGraphics();
+	}
+
+	/**
+	 * Skaliert den Puffer in eine Zielfläche und füllt die Ränder schwarz.
+	 *
+	 * @param g      Die Grafikoberfläche des Fensters.
+	 * @param width  Die Breite der Zielfläche.
+	 * @param height Die Höhe der Zielfläche.
+	 */
+	public void present(Graphics g, int width, int height) {
+		long start = System.nanoTime();
+		Rectangle v = computeViewport(width, height);
+		viewport = v;
+
+		g.setColor(Color.BLACK);
+		if (v.x > 0) {
+			g.fillRect(0, 0, v.x, height);
+			g.fillRect(v.x + v.width, 0, width - v.x - v.width, height);
+		}
+		if (v.y > 0) {
+			g.fillRect(0, 0, width, v.y);
+			g.fillRect(0, v.y + v.height, width, height - v.y - v.height);
+		}
+
+		if (bilinear && g instanceof Graphics2D g2)
+			g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+		g.drawImage(image, v.x, v.y, v.width, v.height, null);
+
+		addPresentNanos(System.nanoTime() - start);
+	}
+
+	/**
+	 * Kopiert den Pufferinhalt unskaliert in ein Bild in Spielauflösung, z.B. für Aufnahmen.
+	 *
+	 * @param target Das Zielbild.
+	 */
+	public void copyTo(BufferedImage target) {
+		Graphics2D g = target.createGraphics();
+		try {
+			g.setComposite(AlphaComposite.Src);
+			g.drawImage(image, 0, 0, null);
+		} finally {
+			g.dispose();
+		}
+	}
+
+	private synchronized void addPresentNanos(long nanos) {
+		presentNanos += nanos;
+		presentCount++;
+	}
+
+	/**
+	 * Berechnet das Zielrechteck: beim ganzzahligen Skalieren das größte ganzzahlige Vielfache
+	 * der Spielauflösung (mindestens 1), sonst die größte Fläche mit gleichem Seitenverhältnis.
+	 */
+	private Rectangle computeViewport(int width, int height) {
+		int w, h;
+		if (bilinear) {
+			float scale = Math.min(width / (float) Game.GAME_WIDTH, height / (float) Game.GAME_HEIGHT);
+			w = Math.max(1, Math.round(Game.GAME_WIDTH * scale));
+			h = Math.max(1, Math.round(Game.GAME_HEIGHT * scale));
+		} else {
+			int scale = Math.max(1, Math.min(width / Game.GAME_WIDTH, height / Game.GAME_HEIGHT));
+			w = Game.GAME_WIDTH * scale;
+			h = Game.GAME_HEIGHT * scale;
+		}
+		return new Rectangle(Math.max(0, (width - w) / 2), Math.max(0, (height - h) / 2), w, h);
+	}
+
+	/**
+	 * Rechnet eine x-Koordinate des Fensters in Spielkoordinaten um.
+	 *
+	 * @param x Die x-Koordinate im Fenster.
+	 * @return Die x-Koordinate in Spielauflösung.
+	 */
+	public int toGameX(int x) {
+		Rectangle v = viewport;
+		return (int) Math.floor((x - v.x) * (double) Game.GAME_WIDTH / v.width);
+	}
+
+	/**
+	 * Rechnet eine y-Koordinate des Fensters in Spielkoordinaten um.
+	 *
+	 * @param y Die y-Koordinate im Fenster.
+	 * @return Die y-Koordinate in Spielauflösung.
+	 */
+	public int toGameY(int y) {
+		Rectangle v = viewport;
+		return (int) Math.floor((y - v.y) * (double) Game.GAME_HEIGHT / v.height);
+	}
+
+	/**
+	 * Rechnet ein Rechteck in Spielkoordinaten in Fensterkoordinaten um, z.B. für Swing-Komponenten.
+	 *
+	 * @param r      Das Rechteck in Spielauflösung.
+	 * @param width  Die Breite der Zielfläche.
+	 * @param height Die Höhe der Zielfläche.
+	 * @return Das Rechteck im Fenster.
+	 */
+	public Rectangle toScreen(Rectangle r, int width, int height) {
+		Rectangle v = computeViewport(width, height);
+		double sx = v.width / (double) Game.GAME_WIDTH, sy = v.height / (double) Game.GAME_HEIGHT;
+		return new Rectangle(v.x + (int) Math.round(r.x * sx), v.y + (int) Math.round(r.y * sy), (int) Math.round(r.width * sx), (int) Math.round(r.height * sy));
+	}
+
+	/**
+	 * Schließt das Messfenster ab und liefert eine Zusammenfassung der Präsentationskosten.
+	 *
+	 * @return Die Zusammenfassung.
+	 */
+	public synchronized String report() {
+		if (presentCount > 0)
+			lastPresentMillis = presentNanos / 1_000_000f / presentCount;
+		Rectangle v = viewport;
+		presentNanos = 0;
+		presentCount = 0;
+		return String.format("Präsentieren: %.2f ms/Frame (%dx%d, %s)", lastPresentMillis, v.width, v.height, bilinear ? BILINEAR : NEAREST);
+	}
+
+	/**
+	 * Gibt die durchschnittliche Dauer des Skalierens im letzten Messfenster zurück.
+	 *
+	 * @return Die Dauer in Millisekunden.
+	 */
+	public float getPresentMillis() {
+		return lastPresentMillis;
+	}
+}
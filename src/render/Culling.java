@@ -0,0 +1,37 @@
+package render;
+
+import mainPackage.Game;
+
+/**
+ * Die Klasse Culling prüft, ob ein Objekt horizontal im Bildausschnitt liegt. Objekte außerhalb
+ * werden weder gezeichnet noch in den Render-Snapshot übertragen; auf langen Levels ist das
+ * der größte Teil aller Objekte.
+ */
+public class Culling {
+
+	/**
+	 * Prüft, ob sich eine horizontale Spanne in Weltkoordinaten mit dem Bildausschnitt
+	 * überschneidet. Bewegt sich die Kamera innerhalb des Ticks, wird der ganze überstrichene
+	 * Bereich von {@code minOffset} bis {@code maxOffset} plus Bildbreite berücksichtigt.
+	 *
+	 * @param left      Die linke Kante (inklusive).
+	 * @param right     Die rechte Kante (exklusive).
+	 * @param minOffset Der kleinste Levelversatz.
+	 * @param maxOffset Der größte Levelversatz.
+	 * @return true, wenn die Spanne zumindest teilweise sichtbar ist.
+	 */
+	public static boolean isVisible(int left, int right, int minOffset, int maxOffset) {
+		return right > minOffset && left < maxOffset + Game.GAME_WIDTH;
+	}
+
+	/**
+	 * Prüft, ob ein Objekt an der bereits um den Levelversatz verschobenen Position im Bild liegt.
+	 *
+	 * @param screenX Die x-Position in Bildschirmkoordinaten, wie sie gezeichnet würde.
+	 * @param width   Die Zeichenbreite; negativ für gespiegelt gezeichnete Objekte.
+	 * @return true, wenn das Objekt zumindest teilweise sichtbar ist.
+	 */
+	public static boolean isOnScreen(int screenX, int width) {
+		return isVisible(Math.min(screenX, screenX + width), Math.max(screenX, screenX + width), 0, 0);
+	}
+}
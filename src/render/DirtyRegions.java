@@ -0,0 +1,107 @@
+package render;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.List;
+
+import mainPackage.Game;
+
+/**
+ * Die Klasse DirtyRegions sammelt die Flächen des {@link Backbuffer}, die seit dem letzten Frame
+ * neu gezeichnet werden müssen. Statische Zustände wie das Menü melden hier nur die Schaltflächen,
+ * deren Bild sich geändert hat; alles andere bleibt vom vorigen Frame im Puffer stehen.
+ * Sich überlappende Flächen werden zusammengefasst. Werden es zu viele oder decken sie den
+ * größten Teil des Bildes ab, wird stattdessen einmal alles neu gezeichnet.
+ * Threadsicher: gemeldet wird vom Spiel-Thread, abgeholt vom zeichnenden Thread.
+ */
+public class DirtyRegions {
+
+	private static final int MAX_REGIONS = 8;
+	private static final long SCREEN_AREA = (long) Game.GAME_WIDTH * Game.GAME_HEIGHT;
+
+	private final List<Rectangle> regions = new ArrayList<>();
+	private boolean full = true;
+
+	private long fullFrames, partialFrames, idleFrames, partialPixels;
+
+	/**
+	 * Markiert eine Fläche als neu zu zeichnen.
+	 *
+	 * @param r Die Fläche in Spielkoordinaten.
+	 */
+	public synchronized void add(Rectangle r) {
+		if (full)
+			return;
+		Rectangle merged = new Rectangle(r);
+		for (int i = regions.size() - 1; i >= 0; i--)
+			if (regions.get(i).intersects(merged)) {
+				merged.add(regions.remove(i));
+				i = regions.size();
+			}
+		regions.add(merged);
+
+		long area = 0;
+		for (Rectangle region : regions)
+			area += (long) region.width * region.height;
+		if (regions.size() > MAX_REGIONS || area * 2 > SCREEN_AREA)
+			addAll();
+	}
+
+	/**
+	 * Markiert das ganze Bild als neu zu zeichnen, z.B. nach einem Zustandswechsel.
+	 */
+	public synchronized void addAll() {
+		full = true;
+		regions.clear();
+	}
+
+	/**
+	 * Gibt an, ob seit dem letzten Abholen nichts gemeldet wurde.
+	 *
+	 * @return true, wenn der Puffer aktuell ist.
+	 */
+	public synchronized boolean isClean() {
+		return !full && regions.isEmpty();
+	}
+
+	/**
+	 * Übernimmt die gesammelten Flächen und beginnt eine neue Sammlung.
+	 *
+	 * @return Die neu zu zeichnenden Flächen, leer wenn nichts zu tun ist, oder null, wenn das
+	 *         ganze Bild neu gezeichnet werden muss.
+	 */
+	public synchronized Rectangle[] take() {
+		if (full) {
+			full = false;
+			fullFrames++;
+			return null;
+		}
+		Rectangle[] taken = regions.toArray(new Rectangle[0]);
+		regions.clear();
+		if (taken.length > 0)
+			partialFrames++;
+		for (Rectangle r : taken)
+			partialPixels += (long) r.width * r.height;
+		return taken;
+	}
+
+	/**
+	 * Zählt einen Frame, der ausgelassen wurde, weil sich nichts geändert hat.
+	 */
+	public synchronized void countIdle() {
+		idleFrames++;
+	}
+
+	/**
+	 * Schließt das Messfenster ab und fasst zusammen, wie viele Frames ganz, teilweise oder gar
+	 * nicht gezeichnet wurden.
+	 *
+	 * @return Die Zusammenfassung.
+	 */
+	public synchronized String report() {
+		float share = partialFrames == 0 ? 0f : partialPixels * 100f / (partialFrames * SCREEN_AREA);
+		String report = String.format("Neuzeichnen: %d ganz, %d teilweise (%.1f%% der Fläche), %d ausgelassen", fullFrames, partialFrames, share, idleFrames);
+		fullFrames = partialFrames = idleFrames = partialPixels = 0;
+		return report;
+	}
+}
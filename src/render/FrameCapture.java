@@ -0,0 +1,327 @@
+package render;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.imageio.ImageIO;
+
+import mainPackage.Game;
+
+/**
+ * Die Klasse FrameCapture nimmt Screenshots und ganze Bildfolgen auf, ohne die Spielschleife
+ * aufzuhalten. Beim Präsentieren wird der fertige Frame nur in einen Puffer aus einem festen
+ * Vorrat kopiert und über eine sperrfreie Warteschlange an einen eigenen Encoder-Thread
+ * übergeben, der ihn als PNG oder als Rohdaten (RGB, 3 Byte pro Pixel) schreibt. Ist kein
+ * Puffer frei, weil der Encoder nicht hinterherkommt, wird der Frame verworfen und gezählt;
+ * gewartet wird nie.
+ * Rohdaten lassen sich z.B. mit {@code ffmpeg -f rawvideo -pix_fmt rgb24 -s 832x448 -i ...}
+ * weiterverarbeiten; die Auflösung steht im Dateinamen.
+ */
+public class FrameCapture {
+
+	/** Jeder Frame als eigene PNG-Datei. */
+	public static final String PNG = "png";
+	/** Alle Frames einer Aufnahme hintereinander in einer Rohdatei. */
+	public static final String RAW = "raw";
+
+	// Anzahl der Puffer im Vorrat, Zweierpotenz
+	private static final int POOL_SIZE = 8;
+	// Wartezeit des Encoders, wenn nichts ansteht; neue Frames wecken ihn sofort
+	private static final long IDLE_PARK_NANOS = 50_000_000L;
+
+	/**
+	 * Ein Puffer aus dem Vorrat samt Angaben, wohin er geschrieben wird.
+	 */
+	private static final class Frame {
+		final BufferedImage image = new BufferedImage(Game.GAME_WIDTH, Game.GAME_HEIGHT, BufferedImage.TYPE_INT_RGB);
+		// Name der Aufnahme, zu der der Frame gehört, oder null
+		String session;
+		long index;
+		boolean screenshot;
+	}
+
+	/**
+	 * Ringpuffer fester Größe für genau einen schreibenden und einen lesenden Thread.
+	 * Jeder Index wird nur von einer Seite verändert, deshalb genügen geordnete Schreibzugriffe.
+	 */
+	private static final class Ring {
+		private final Frame[] slots;
+		private final int mask;
+		private final AtomicLong head = new AtomicLong(), tail = new AtomicLong();
+
+		Ring(int capacity) {
+			slots = new Frame[capacity];
+			mask = capacity - 1;
+		}
+
+		boolean offer(Frame f) {
+			long t = tail.get();
+			if (t - head.get() == slots.length)
+				return false;
+			slots[(int) t & mask] = f;
+			tail.lazySet(t + 1);
+			return true;
+		}
+
+		Frame poll() {
+			long h = head.get();
+			if (h == tail.get())
+				return null;
+			Frame f = slots[(int) h & mask];
+			slots[(int) h & mask] = null;
+			head.lazySet(h + 1);
+			return f;
+		}
+
+		int size() {
+			return (int) (tail.get() - head.get());
+		}
+	}
+
+	private final File directory;
+	private final boolean raw;
+
+	// Freie Puffer: vom Encoder zurückgegeben, beim Aufnehmen entnommen
+	private final Ring free = new Ring(POOL_SIZE);
+	// Volle Puffer: beim Aufnehmen eingereiht, vom Encoder geschrieben
+	private final Ring full = new Ring(POOL_SIZE);
+	private Thread encoder;
+
+	private volatile boolean recording;
+	private volatile boolean screenshotRequested;
+	private volatile String sessionName;
+	private long sessionFrames;
+
+	private final AtomicLong captured = new AtomicLong(), dropped = new AtomicLong(), written = new AtomicLong(), failed = new AtomicLong();
+	private long reportedDropped;
+
+	/**
+	 * Erzeugt die Aufnahme; Puffer und Encoder-Thread entstehen erst bei der ersten Aufnahme.
+	 *
+	 * @param directory Das Verzeichnis für Screenshots und Aufnahmen.
+	 * @param format    Das Format der Bildfolgen, {@link #PNG} oder {@link #RAW}. Screenshots
+	 *                  sind immer PNG.
+	 */
+	public FrameCapture(File directory, String format) {
+		this.directory = directory;
+		this.raw = RAW.equalsIgnoreCase(format);
+	}
+
+	/**
+	 * Fordert einen Screenshot des nächsten präsentierten Frames an.
+	 */
+	public void requestScreenshot() {
+		ensureStarted();
+		screenshotRequested = true;
+	}
+
+	/**
+	 * Startet oder beendet die Aufnahme einer Bildfolge.
+	 */
+	public synchronized void toggleRecording() {
+		if (recording) {
+			stopRecording("beendet");
+			return;
+		}
+		ensureStarted();
+		sessionName = "capture-" + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+		if (raw)
+			sessionName += "-" + Game.GAME_WIDTH + "x" + Game.GAME_HEIGHT + ".rgb";
+		sessionFrames = 0;
+		recording = true;
+		System.out.println("Aufnahme gestartet: " + new File(directory, sessionName));
+	}
+
+	/**
+	 * Beendet die laufende Aufnahme und gibt ihre Summen aus.
+	 *
+	 * @param reason Der Grund für die Ausgabe, z.B. "beendet".
+	 */
+	private synchronized void stopRecording(String reason) {
+		recording = false;
+		System.out.println("Aufnahme " + reason + ": " + sessionName + " (" + sessionFrames + " Frames, " + dropped.get() + " verworfen, "
+				+ failed.get() + " fehlgeschlagen insgesamt)");
+	}
+
+	public boolean isRecording() {
+		return recording;
+	}
+
+	/**
+	 * Gibt an, ob der nächste präsentierte Frame aufgenommen werden soll.
+	 *
+	 * @return true bei laufender Aufnahme oder angefordertem Screenshot.
+	 */
+	public boolean isPending() {
+		return recording || screenshotRequested;
+	}
+
+	/**
+	 * Kopiert den fertig gezeichneten Frame in einen freien Puffer und reiht ihn beim Encoder
+	 * ein. Ist kein Puffer frei, wird der Frame verworfen. Darf nur von einem Thread zugleich
+	 * aufgerufen werden, z.B. aus dem synchronisierten {@link Game#present}.
+	 *
+	 * @param backbuffer Der Puffer mit dem fertigen Frame.
+	 * @return true, wenn der Frame aufgenommen wurde.
+	 */
+	public boolean capture(Backbuffer backbuffer) {
+		boolean screenshot = screenshotRequested;
+		if (!recording && !screenshot)
+			return false;
+		Frame f = free.poll();
+		if (f == null) {
+			dropped.incrementAndGet();
+			return false;
+		}
+		backbuffer.copyTo(f.image);
+		f.screenshot = screenshot;
+		f.session = recording ? sessionName : null;
+		f.index = recording ? sessionFrames++ : -1;
+		if (screenshot)
+			screenshotRequested = false;
+		full.offer(f);
+		captured.incrementAndGet();
+		LockSupport.unpark(encoder);
+		return true;
+	}
+
+	/**
+	 * Legt beim ersten Aufruf den Puffervorrat an und startet den Encoder-Thread.
+	 */
+	private synchronized void ensureStarted() {
+		if (encoder != null)
+			return;
+		directory.mkdirs();
+		for (int i = 0; i < POOL_SIZE; i++)
+			free.offer(new Frame());
+		encoder = new Thread(this::encode, "FrameCapture");
+		encoder.setDaemon(true);
+		encoder.setPriority(Thread.MIN_PRIORITY);
+		encoder.start();
+	}
+
+	/**
+	 * Schleife des Encoder-Threads: schreibt eingereihte Frames und gibt ihre Puffer zurück.
+	 * Die Rohdatei einer Aufnahme bleibt offen, bis die Aufnahme beendet und alles geschrieben ist.
+	 */
+	private void encode() {
+		OutputStream out = null;
+		String outSession = null;
+		byte[] rgb = new byte[Game.GAME_WIDTH * Game.GAME_HEIGHT * 3];
+
+		while (true) {
+			Frame f = full.poll();
+			if (f == null) {
+				if (out != null && !recording) {
+					out = close(out);
+					outSession = null;
+				}
+				LockSupport.parkNanos(IDLE_PARK_NANOS);
+				continue;
+			}
+			try {
+				if (f.screenshot) {
+					File file = new File(directory, "screenshot-" + new SimpleDateFormat("yyyyMMdd-HHmmss-SSS").format(new Date()) + ".png");
+					ImageIO.write(f.image, PNG, file);
+					System.out.println("Screenshot gespeichert: " + file);
+				}
+				if (f.session != null && raw) {
+					if (!f.session.equals(outSession)) {
+						close(out);
+						out = new FileOutputStream(new File(directory, f.session));
+						outSession = f.session;
+					}
+					toRgb(((DataBufferInt) f.image.getRaster().getDataBuffer()).getData(), rgb);
+					out.write(rgb);
+				} else if (f.session != null) {
+					File dir = new File(directory, f.session);
+					dir.mkdirs();
+					ImageIO.write(f.image, PNG, new File(dir, String.format("frame-%06d.png", f.index)));
+				}
+				written.incrementAndGet();
+			} catch (IOException e) {
+				e.printStackTrace();
+				out = close(out);
+				outSession = null;
+				// Nur die Aufnahme abbrechen, zu der der Frame gehört, nicht eine inzwischen neu
+				// gestartete; beendet wird vor dem Zählen, damit isDrained() keine laufende Aufnahme sieht.
+				synchronized (this) {
+					boolean abort = recording && f.session != null && f.session.equals(sessionName);
+					if (abort)
+						recording = false;
+					failed.incrementAndGet();
+					if (abort)
+						stopRecording("abgebrochen");
+				}
+			}
+			free.offer(f);
+		}
+	}
+
+	// Wandelt 0xRRGGBB-Pixel in aufeinanderfolgende R-, G- und B-Bytes um
+	private static void toRgb(int[] pixels, byte[] rgb) {
+		for (int i = 0, j = 0; i < pixels.length; i++, j += 3) {
+			int p = pixels[i];
+			rgb[j] = (byte) (p >> 16);
+			rgb[j + 1] = (byte) (p >> 8);
+			rgb[j + 2] = (byte) p;
+		}
+	}
+
+	private static OutputStream close(OutputStream out) {
+		if (out != null)
+			try {
+				out.close();
+			} catch (IOException e) {
+				e.printStackTrace();
+			}
+		return null;
+	}
+
+	/**
+	 * Gibt an, ob der Encoder alle eingereihten Frames abgearbeitet hat, geschrieben oder mit
+	 * Fehler verworfen.
+	 *
+	 * @return true, wenn kein Frame mehr aussteht.
+	 */
+	public boolean isDrained() {
+		return written.get() + failed.get() == captured.get();
+	}
+
+	public long getCaptured() {
+		return captured.get();
+	}
+
+	public long getDropped() {
+		return dropped.get();
+	}
+
+	public long getWritten() {
+		return written.get();
+	}
+
+	public long getFailed() {
+		return failed.get();
+	}
+
+	/**
+	 * Fasst die Aufnahme zusammen; die verworfenen Frames seit dem letzten Bericht stehen in Klammern.
+	 *
+	 * @return Die Zusammenfassung.
+	 */
+	public synchronized String report() {
+		long d = dropped.get();
+		String s = String.format("Aufnahme %s: %d aufgenommen, %d geschrieben, %d fehlgeschlagen, %d verworfen (+%d), %d in Warteschlange",
+				recording ? "läuft" : "aus", captured.get(), written.get(), failed.get(), d, d - reportedDropped, full.size());
+		reportedDropped = d;
+		return s;
+	}
+}
@@ -0,0 +1,485 @@
+package render;
+
+import java.awt.Graphics;
+import java.util.Arrays;
+
+import mainPackage.Game;
+
+/**
+ * Die Klasse RenderSnapshot hält einen kompakten, vom Simulationszustand unabhängigen Abzug
+ * aller zeichenbaren Objekte eines Ticks. Pro Eintrag werden nur Sprite-ID, Frame, Position,
+ * Größe und Flags gespeichert. Die Arrays werden wiederverwendet, es entstehen pro Tick
+ * keine neuen Objekte.
+ * Zu jeder Position wird zusätzlich die Position vom Beginn des Ticks abgelegt, damit der
+ * Renderer zwischen zwei Ticks interpolieren kann.
+ * Der Snapshot ist zugleich die Render-Queue der Szene: Jedes Subsystem legt mit
+ * {@link #setLayer(int, int)} Ebene und Sortierschlüssel seiner Einträge fest. Vor dem
+ * Veröffentlichen ordnet {@link #sort()} die Einträge nach Ebene, Schlüssel und zuletzt nach der
+ * Textur, aus der sie gezeichnet werden, so dass Einträge derselben Atlas-Seite als Batch
+ * hintereinander gezeichnet werden; sich überlappende Einträge behalten dabei ihre Reihenfolge.
+ * Die Reihenfolge, in der die Subsysteme einreichen, spielt damit keine Rolle mehr.
+ */
+public class RenderSnapshot {
+
+	/** Der Eintrag wird horizontal gespiegelt gezeichnet. */
+	public static final int FLIP_X = 1;
+	/** Die Position ist in Bildschirmkoordinaten angegeben und wird nicht mit dem Level verschoben. */
+	public static final int SCREEN_SPACE = 2;
+	/** Der Eintrag wird als Treffer-Blitz weiß überblendet. */
+	public static final int FLASH = 4;
+
+	/** Ebene hinter den Levelkacheln, z.B. Regen. */
+	public static final int LAYER_BACKGROUND = 0;
+	/** Die Levelkacheln selbst; Einträge darunter liegen hinter, alle anderen vor dem Level. */
+	public static final int LAYER_TILES = 1;
+	/** Ebene der Objekte wie Tränke, Kisten, Fallen und Kanonen. */
+	public static final int LAYER_OBJECTS = 2;
+	/** Ebene der Feinde. */
+	public static final int LAYER_ENEMIES = 3;
+	/** Ebene des Spielers. */
+	public static final int LAYER_PLAYER = 4;
+	/** Ebene vor allem anderen, z.B. Hintergrundbäume, die den Spieler verdecken. */
+	public static final int LAYER_FOREGROUND = 5;
+
+	// Texturschlüssel: 0 für leere Frames, 1 + Seitennummer für Atlas-Frames, ab VARIANT_TEXTURES Varianten
+	private static final int NO_TEXTURE = 0, VARIANT_TEXTURES = 1 << 19;
+	private static final int INDEX_BITS = 20;
+
+	// Größere Sprünge (Respawn, Levelwechsel) werden nicht interpoliert.
+	private static final int MAX_INTERPOLATION_DISTANCE = Game.TILES_SIZE * 2;
+
+	private int size;
+	// Einträge, die dieser Tick außerhalb des Bildausschnitts verworfen hat
+	private int culled;
+	private int[] sprite = new int[256];
+	private int[] frame = new int[256];
+	private int[] x = new int[256];
+	private int[] y = new int[256];
+	private int[] prevX = new int[256];
+	private int[] prevY = new int[256];
+	private int[] w = new int[256];
+	private int[] h = new int[256];
+	private int[] flags = new int[256];
+	// Ebene und Sortierschlüssel als (Ebene << 8 | Schlüssel) und der Texturschlüssel pro Eintrag
+	private int[] order = new int[256];
+	private int[] texture = new int[256];
+	private long[] sortKeys = new long[256];
+	private int[] scratch = new int[256];
+	private int currentOrder;
+	// Batches (Texturwechsel) in der eingereichten und in der sortierten Reihenfolge
+	private int unsortedBatches, batches;
+
+	// Szenenweite Werte
+	private long tick;
+	private long publishTime;
+	private int xLvlOffset, prevXLvlOffset;
+	private int levelIndex;
+	private int waterIndex;
+	private int healthWidth, powerWidth;
+	private int overlay, overlaySerial;
+	private boolean message;
+	// Einträge vor diesem Index liegen hinter der Kachelebene des Levels.
+	private int tileLayer;
+
+	/**
+	 * Leert den Snapshot für den nächsten Tick.
+	 *
+	 * @param tick Die Nummer des Ticks, der in diesen Snapshot geschrieben wird.
+	 */
+	public void clear(long tick) {
+		this.tick = tick;
+		size = 0;
+		culled = 0;
+		tileLayer = 0;
+		currentOrder = LAYER_OBJECTS << 8;
+		unsortedBatches = batches = 0;
+	}
+
+	/**
+	 * Fügt einen Zeichenbefehl hinzu.
+	 *
+	 * @param spriteId Die Sprite-ID aus der {@link SpriteRegistry}.
+	 * @param frameIdx Der Frame-Index innerhalb der Animationsreihe.
+	 * @param xPos     Die X-Position (Weltkoordinate, linke Kante ungespiegelt).
+	 * @param yPos     Die Y-Position.
+	 * @param width    Die Zeichenbreite (immer positiv).
+	 * @param height   Die Zeichenhöhe.
+	 * @param flag     Kombination aus {@link #FLIP_X} und {@link #SCREEN_SPACE}.
+	 */
+	public void add(int spriteId, int frameIdx, int xPos, int yPos, int width, int height, int flag) {
+		add(spriteId, frameIdx, xPos, yPos, xPos, yPos, width, height, flag);
+	}
+
+	/**
+	 * Fügt einen Zeichenbefehl für ein bewegtes Objekt hinzu. Einträge in Weltkoordinaten, die
+	 * weder am Anfang noch am Ende des Ticks im Bild liegen, werden verworfen; dazu muss
+	 * {@link #setScene} vorher aufgerufen worden sein.
+	 *
+	 * @param spriteId Die Sprite-ID aus der {@link SpriteRegistry}.
+	 * @param frameIdx Der Frame-Index innerhalb der Animationsreihe.
+	 * @param xPos     Die X-Position am Ende des Ticks.
+	 * @param yPos     Die Y-Position am Ende des Ticks.
+	 * @param prevXPos Die X-Position am Anfang des Ticks.
+	 * @param prevYPos Die Y-Position am Anfang des Ticks.
+	 * @param width    Die Zeichenbreite (immer positiv).
+	 * @param height   Die Zeichenhöhe.
+	 * @param flag     Kombination aus {@link #FLIP_X} und {@link #SCREEN_SPACE}.
+	 */
+	public void add(int spriteId, int frameIdx, int xPos, int yPos, int prevXPos, int prevYPos, int width, int height, int flag) {
+		if (Math.abs(xPos - prevXPos) > MAX_INTERPOLATION_DISTANCE || Math.abs(yPos - prevYPos) > MAX_INTERPOLATION_DISTANCE) {
+			prevXPos = xPos;
+			prevYPos = yPos;
+		}
+		if ((flag & SCREEN_SPACE) == 0 && !isInView(xPos, prevXPos, width)) {
+			culled++;
+			return;
+		}
+		if (size == sprite.length)
+			grow();
+		sprite[size] = spriteId;
+		frame[size] = frameIdx;
+		x[size] = xPos;
+		y[size] = yPos;
+		prevX[size] = prevXPos;
+		prevY[size] = prevYPos;
+		w[size] = width;
+		h[size] = height;
+		flags[size] = flag;
+		order[size] = currentOrder;
+		size++;
+	}
+
+	// Überstrichene Spanne des Eintrags gegen den überstrichenen Bildausschnitt des Ticks;
+	// gespiegelte Bäume kommen mit negativer Breite.
+	private boolean isInView(int xPos, int prevXPos, int width) {
+		int left = Math.min(xPos, prevXPos);
+		int right = Math.max(xPos, prevXPos);
+		if (width < 0)
+			left += width;
+		else
+			right += width;
+		return Culling.isVisible(left, right, Math.min(xLvlOffset, prevXLvlOffset), Math.max(xLvlOffset, prevXLvlOffset));
+	}
+
+	private void grow() {
+		int newLength = sprite.length * 2;
+		sprite = Arrays.copyOf(sprite, newLength);
+		frame = Arrays.copyOf(frame, newLength);
+		x = Arrays.copyOf(x, newLength);
+		y = Arrays.copyOf(y, newLength);
+		prevX = Arrays.copyOf(prevX, newLength);
+		prevY = Arrays.copyOf(prevY, newLength);
+		w = Arrays.copyOf(w, newLength);
+		h = Arrays.copyOf(h, newLength);
+		flags = Arrays.copyOf(flags, newLength);
+		order = Arrays.copyOf(order, newLength);
+		texture = Arrays.copyOf(texture, newLength);
+		sortKeys = Arrays.copyOf(sortKeys, newLength);
+		scratch = new int[newLength];
+	}
+
+	/**
+	 * Legt Ebene und Sortierschlüssel für alle folgenden Einträge fest. Innerhalb einer Ebene
+	 * werden Einträge mit kleinerem Schlüssel zuerst gezeichnet; Einträge mit gleichem Schlüssel
+	 * dürfen zugunsten weniger Texturwechsel umsortiert werden.
+	 *
+	 * @param layer   Die Ebene, z.B. {@link #LAYER_OBJECTS}.
+	 * @param sortKey Der Schlüssel innerhalb der Ebene zwischen 0 und 255.
+	 */
+	public void setLayer(int layer, int sortKey) {
+		currentOrder = layer << 8 | (sortKey & 0xFF);
+	}
+
+	/**
+	 * Sortiert die Einträge stabil nach Ebene und Sortierschlüssel und fasst innerhalb gleicher
+	 * Schlüssel Einträge derselben Textur zu Batches zusammen. Ein Eintrag wird dabei nur an
+	 * Einträgen vorbei nach vorne gezogen, die er nicht überlappt, so dass sich das Bild nicht
+	 * ändert. Bestimmt außerdem die Grenze zur Kachelebene. Wird vom Spiel-Thread vor dem
+	 * Veröffentlichen aufgerufen.
+	 */
+	public void sort() {
+		for (int i = 0; i < size; i++) {
+			texture[i] = textureOf(i);
+			sortKeys[i] = (long) order[i] << INDEX_BITS | i;
+		}
+		unsortedBatches = countBatches();
+		Arrays.sort(sortKeys, 0, size);
+
+		boolean moved = false;
+		for (int groupStart = 0, groupEnd; groupStart < size; groupStart = groupEnd) {
+			long group = sortKeys[groupStart] >> INDEX_BITS;
+			groupEnd = groupStart + 1;
+			while (groupEnd < size && sortKeys[groupEnd] >> INDEX_BITS == group)
+				groupEnd++;
+			for (int i = groupStart; i < groupEnd; i++) {
+				int entry = indexAt(i);
+				int pos = i;
+				// Rückwärts bis zum letzten Eintrag derselben Textur, solange nichts überlappt
+				for (int j = i - 1; j >= groupStart; j--) {
+					int other = indexAt(j);
+					if (texture[other] == texture[entry]) {
+						pos = j + 1;
+						break;
+					}
+					if (overlaps(entry, other))
+						break;
+				}
+				if (pos < i) {
+					long key = sortKeys[i];
+					System.arraycopy(sortKeys, pos, sortKeys, pos + 1, i - pos);
+					sortKeys[pos] = key;
+				}
+				if (indexAt(i) != i || pos != i)
+					moved = true;
+			}
+		}
+
+		if (moved) {
+			sprite = permute(sprite);
+			frame = permute(frame);
+			x = permute(x);
+			y = permute(y);
+			prevX = permute(prevX);
+			prevY = permute(prevY);
+			w = permute(w);
+			h = permute(h);
+			flags = permute(flags);
+			order = permute(order);
+			texture = permute(texture);
+		}
+		batches = countBatches();
+
+		tileLayer = 0;
+		while (tileLayer < size && order[tileLayer] >> 8 < LAYER_TILES)
+			tileLayer++;
+	}
+
+	private int indexAt(int i) {
+		return (int) (sortKeys[i] & ((1 << INDEX_BITS) - 1));
+	}
+
+	// Vergleicht die über den Tick überstrichenen Flächen zweier Einträge.
+	private boolean overlaps(int a, int b) {
+		if ((flags[a] & SCREEN_SPACE) != (flags[b] & SCREEN_SPACE))
+			return true;
+		return spanStart(x[a], prevX[a], w[a]) < spanEnd(x[b], prevX[b], w[b]) && spanStart(x[b], prevX[b], w[b]) < spanEnd(x[a], prevX[a], w[a])
+				&& spanStart(y[a], prevY[a], h[a]) < spanEnd(y[b], prevY[b], h[b]) && spanStart(y[b], prevY[b], h[b]) < spanEnd(y[a], prevY[a], h[a]);
+	}
+
+	private static int spanStart(int pos, int prevPos, int length) {
+		return Math.min(pos, prevPos) + Math.min(0, length);
+	}
+
+	private static int spanEnd(int pos, int prevPos, int length) {
+		return Math.max(pos, prevPos) + Math.max(0, length);
+	}
+
+	// Ordnet ein Array nach den sortierten Schlüsseln um; das alte Array dient beim nächsten Mal als Puffer.
+	private int[] permute(int[] values) {
+		int[] sortedValues = scratch;
+		for (int i = 0; i < size; i++)
+			sortedValues[i] = values[indexAt(i)];
+		scratch = values;
+		return sortedValues;
+	}
+
+	// Aus dem Atlas wird nur ungespiegelt, ohne Blitz und in Atlasgröße gezeichnet, sonst aus
+	// einer Variante; gleiche Varianten teilen sich ein Bild und damit einen Schlüssel.
+	private int textureOf(int i) {
+		TextureAtlas.Region r = SpriteRegistry.getRegion(sprite[i], frame[i]);
+		if (r == null)
+			return NO_TEXTURE;
+		if ((flags[i] & (FLIP_X | FLASH)) == 0 && w[i] == r.width() && h[i] == r.height())
+			return 1 + r.pageIndex();
+		int hash = ((sprite[i] * 31 + frame[i]) * 31 + (flags[i] & (FLIP_X | FLASH))) * 31 + w[i] * 7919 + h[i];
+		return VARIANT_TEXTURES | (hash & (VARIANT_TEXTURES - 1));
+	}
+
+	private int countBatches() {
+		int count = 0;
+		for (int i = 0; i < size; i++)
+			if (texture[i] != NO_TEXTURE && (i == 0 || texture[i] != texture[i - 1]))
+				count++;
+		return count;
+	}
+
+	/**
+	 * Zeichnet die Einträge im angegebenen Bereich in der Reihenfolge, in der sie hinzugefügt wurden.
+	 *
+	 * @param g    Die Grafikoberfläche.
+	 * @param from Der erste Eintrag (inklusive).
+	 * @param to   Der letzte Eintrag (exklusive).
+	 */
+	public void draw(Graphics g, int from, int to) {
+		draw(g, from, to, 1f);
+	}
+
+	/**
+	 * Zeichnet die Einträge im angegebenen Bereich, interpoliert zwischen Anfang und Ende des Ticks.
+	 *
+	 * @param g     Die Grafikoberfläche.
+	 * @param from  Der erste Eintrag (inklusive).
+	 * @param to    Der letzte Eintrag (exklusive).
+	 * @param alpha Der Anteil des Ticks zwischen 0 (Anfang) und 1 (Ende).
+	 */
+	public void draw(Graphics g, int from, int to, float alpha) {
+		int offset = getXLvlOffset(alpha);
+		for (int i = from; i < to; i++) {
+			int drawX = lerp(prevX[i], x[i], alpha);
+			int drawY = lerp(prevY[i], y[i], alpha);
+			if ((flags[i] & SCREEN_SPACE) == 0)
+				drawX -= offset;
+			int variant = ((flags[i] & FLIP_X) != 0 ? SpriteVariants.MIRROR : 0) | ((flags[i] & FLASH) != 0 ? SpriteVariants.FLASH : 0);
+			SpriteVariants.draw(g, sprite[i], frame[i], variant, drawX, drawY, w[i], h[i]);
+		}
+	}
+
+	/**
+	 * Übergibt die Einträge im angegebenen Bereich an den {@link SoftwareRasterizer}, interpoliert
+	 * wie bei {@link #draw(Graphics, int, int, float)}.
+	 *
+	 * @param r     Der Rasterizer.
+	 * @param from  Der erste Eintrag (inklusive).
+	 * @param to    Der letzte Eintrag (exklusive).
+	 * @param alpha Der Anteil des Ticks zwischen 0 (Anfang) und 1 (Ende).
+	 */
+	public void rasterize(SoftwareRasterizer r, int from, int to, float alpha) {
+		int offset = getXLvlOffset(alpha);
+		for (int i = from; i < to; i++) {
+			int drawX = lerp(prevX[i], x[i], alpha);
+			int drawY = lerp(prevY[i], y[i], alpha);
+			if ((flags[i] & SCREEN_SPACE) == 0)
+				drawX -= offset;
+			int variant = ((flags[i] & FLIP_X) != 0 ? SpriteVariants.MIRROR : 0) | ((flags[i] & FLASH) != 0 ? SpriteVariants.FLASH : 0);
+			r.drawSprite(sprite[i], frame[i], variant, drawX, drawY, w[i], h[i]);
+		}
+	}
+
+	private static int lerp(int from, int to, float alpha) {
+		if (from == to)
+			return to;
+		return Math.round(from + (to - from) * alpha);
+	}
+
+	/**
+	 * Gibt den Levelversatz interpoliert zwischen Anfang und Ende des Ticks zurück.
+	 *
+	 * @param alpha Der Anteil des Ticks zwischen 0 und 1.
+	 * @return Der interpolierte Levelversatz.
+	 */
+	public int getXLvlOffset(float alpha) {
+		return lerp(prevXLvlOffset, xLvlOffset, alpha);
+	}
+
+	/**
+	 * Berechnet den Interpolationsanteil aus der seit dem Veröffentlichen vergangenen Zeit.
+	 *
+	 * @param now           Die aktuelle Zeit in Nanosekunden.
+	 * @param timePerUpdate Die Dauer eines Ticks in Nanosekunden.
+	 * @return Der Anteil zwischen 0 und 1.
+	 */
+	public float alphaAt(long now, double timePerUpdate) {
+		return (float) Math.max(0, Math.min(1, (now - publishTime) / timePerUpdate));
+	}
+
+	public void setScene(int xLvlOffset, int prevXLvlOffset, int levelIndex, int waterIndex) {
+		this.xLvlOffset = xLvlOffset;
+		this.prevXLvlOffset = Math.abs(xLvlOffset - prevXLvlOffset) > MAX_INTERPOLATION_DISTANCE ? xLvlOffset : prevXLvlOffset;
+		this.levelIndex = levelIndex;
+		this.waterIndex = waterIndex;
+	}
+
+	public void setStatusBar(int healthWidth, int powerWidth) {
+		this.healthWidth = healthWidth;
+		this.powerWidth = powerWidth;
+	}
+
+	/**
+	 * Legt fest, welches Overlay über der Szene liegt und ob der Hinweistext angezeigt wird.
+	 *
+	 * @param overlay Die Kennung des Overlays, 0 für keines.
+	 * @param serial  Die laufende Nummer, unter der das Overlay geöffnet wurde.
+	 * @param message true, wenn der Hinweistext gezeichnet werden soll.
+	 */
+	public void setOverlay(int overlay, int serial, boolean message) {
+		this.overlay = overlay;
+		this.overlaySerial = serial;
+		this.message = message;
+	}
+
+	/**
+	 * Hält fest, wann der Snapshot veröffentlicht wurde.
+	 *
+	 * @param publishTime Die Zeit in Nanosekunden ({@link System#nanoTime()}).
+	 */
+	public void setPublishTime(long publishTime) {
+		this.publishTime = publishTime;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public int getCulled() {
+		return culled;
+	}
+
+	/**
+	 * Gibt die Anzahl der Batches nach dem Sortieren zurück, also wie oft beim Zeichnen die
+	 * Quelltextur wechselt.
+	 *
+	 * @return Die Batches dieses Snapshots.
+	 */
+	public int getBatches() {
+		return batches;
+	}
+
+	/**
+	 * Gibt die Anzahl der Batches in der Reihenfolge zurück, in der die Einträge eingereicht wurden.
+	 *
+	 * @return Die Batches ohne Sortierung.
+	 */
+	public int getUnsortedBatches() {
+		return unsortedBatches;
+	}
+
+	public int getTileLayer() {
+		return tileLayer;
+	}
+
+	public long getTick() {
+		return tick;
+	}
+
+	public int getXLvlOffset() {
+		return xLvlOffset;
+	}
+
+	public int getLevelIndex() {
+		return levelIndex;
+	}
+
+	public int getWaterIndex() {
+		return waterIndex;
+	}
+
+	public int getHealthWidth() {
+		return healthWidth;
+	}
+
+	public int getPowerWidth() {
+		return powerWidth;
+	}
+
+	public int getOverlay() {
+		return overlay;
+	}
+
+	public int getOverlaySerial() {
+		return overlaySerial;
+	}
+
+	public boolean isMessageShown() {
+		return message;
+	}
+}
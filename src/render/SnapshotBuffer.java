@@ -0,0 +1,57 @@
+package render;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Die Klasse SnapshotBuffer verbindet Simulations- und Render-Thread über einen sperrfreien
+ * Dreifachpuffer. Die Simulation schreibt stets in ihren eigenen Puffer und tauscht ihn beim
+ * Veröffentlichen gegen den Austauschpuffer; der Renderer holt sich den jeweils neuesten
+ * veröffentlichten Snapshot. Keiner der beiden Threads wartet auf den anderen.
+ */
+public class SnapshotBuffer {
+
+	private static final int INDEX_MASK = 3;
+	private static final int FRESH = 4;
+
+	private final RenderSnapshot[] buffers = { new RenderSnapshot(), new RenderSnapshot(), new RenderSnapshot() };
+	private final AtomicInteger exchange = new AtomicInteger(2);
+	private int writeIndex = 0;
+	private int readIndex = 1;
+	private long tick;
+
+	/**
+	 * Gibt den Puffer zurück, in den die Simulation den nächsten Snapshot schreibt, und leert ihn.
+	 * Darf nur vom Simulations-Thread aufgerufen werden.
+	 *
+	 * @return Der Schreibpuffer.
+	 */
+	public RenderSnapshot beginWrite() {
+		RenderSnapshot snapshot = buffers[writeIndex];
+		snapshot.clear(++tick);
+		return snapshot;
+	}
+
+	/**
+	 * Veröffentlicht den zuletzt geschriebenen Snapshot.
+	 * Darf nur vom Simulations-Thread aufgerufen werden.
+	 */
+	public void publish() {
+		buffers[writeIndex].setPublishTime(System.nanoTime());
+		int old = exchange.getAndSet(writeIndex | FRESH);
+		writeIndex = old & INDEX_MASK;
+	}
+
+	/**
+	 * Gibt den neuesten veröffentlichten Snapshot zurück. Liegt kein neuer vor, wird der zuletzt
+	 * geholte erneut geliefert. Der Snapshot bleibt gültig, bis erneut acquire aufgerufen wird.
+	 *
+	 * @return Der Snapshot zum Zeichnen.
+	 */
+	public synchronized RenderSnapshot acquire() {
+		if ((exchange.get() & FRESH) != 0) {
+			int old = exchange.getAndSet(readIndex);
+			readIndex = old & INDEX_MASK;
+		}
+		return buffers[readIndex];
+	}
+}
@@ -0,0 +1,367 @@
+package render;
+
+import java.awt.AlphaComposite;
+import java.awt.Composite;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import mainPackage.Game;
+
+/**
+ * Die Klasse SoftwareRasterizer zeichnet die Spielszene ohne Java2D direkt in die Pixel eines
+ * {@link BufferedImage#TYPE_INT_ARGB}-Bildes. Die Zeichenbefehle eines Frames werden zuerst nur
+ * gesammelt; danach wird das Bild in waagrechte Bänder geteilt, die ein {@link ForkJoinPool}
+ * parallel abarbeitet. Jedes Band führt alle Befehle in ihrer Reihenfolge aus, beschränkt auf
+ * seine eigenen Zeilen, so dass sich zwei Threads nie ein Pixel teilen.
+ * Quellbilder werden beim ersten Gebrauch als int-Array kopiert. Deckende Bilder werden
+ * zeilenweise mit {@link System#arraycopy} kopiert. Bei allen anderen ist jede Zeile in Spannen
+ * gleicher Deckung zerlegt: deckende Spannen werden am Stück kopiert, transparente übersprungen,
+ * gemischt wird nur bei echter Halbtransparenz. Sprites mit 1-Bit-Alpha und die großteils
+ * leeren Levelabschnitte kommen so fast ohne Arbeit pro Pixel aus.
+ * Aktivierbar mit {@code -Dgame.softwareRenderer=true}, die Anzahl der Threads mit
+ * {@code -Dgame.rasterThreads} (Standard: alle Prozessoren).
+ * Pro Frame zeichnet genau ein Thread; nur {@link #report()} darf von einem anderen kommen.
+ */
+public class SoftwareRasterizer {
+
+	private static final int MIRROR = 1, FLASH = 2, OPAQUE = 4;
+	// Stärke des Treffer-Blitzes in 1/256, wie FLASH_STRENGTH in SpriteVariants
+	private static final int FLASH_WEIGHT = Math.round(0.7f * 256);
+	private static final int MIN_BAND_HEIGHT = 16;
+	private static final int BANDS_PER_THREAD = 4;
+
+	// Felder eines Befehls: Quellrechteck, Zielrechteck, Flags
+	private static final int SX = 0, SY = 1, SW = 2, SH = 3, DX = 4, DY = 5, DW = 6, DH = 7, FLAGS = 8, FIELDS = 9;
+
+	/**
+	 * Ein Quellbild als Pixel-Array (ARGB, nicht vormultipliziert). {@code spans[k]} ist die Länge
+	 * der Spanne ab Pixel k bis zum Zeilenende, in der alle Pixel gleich decken (transparent,
+	 * deckend oder halbtransparent).
+	 */
+	private static class Texture {
+		final int[] pixels;
+		final int[] spans;
+		final int width;
+		final boolean opaque;
+
+		Texture(BufferedImage img) {
+			width = img.getWidth();
+			int height = img.getHeight();
+			pixels = img.getRGB(0, 0, width, height, null, 0, width);
+			spans = new int[pixels.length];
+			for (int y = 0; y < height; y++) {
+				int row = y * width;
+				spans[row + width - 1] = 1;
+				for (int x = width - 2; x >= 0; x--)
+					spans[row + x] = coverage(pixels[row + x]) == coverage(pixels[row + x + 1]) ? spans[row + x + 1] + 1 : 1;
+			}
+			opaque = isOpaque(pixels, width, 0, 0, width, height);
+		}
+	}
+
+	private final int width = Game.GAME_WIDTH, height = Game.GAME_HEIGHT;
+	private final BufferedImage frame = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+	private final int[] dst = ((DataBufferInt) frame.getRaster().getDataBuffer()).getData();
+
+	private final int threads;
+	private final ForkJoinPool pool;
+	private final int bandHeight, bandCount;
+
+	// Schlüssel sind Bildinstanzen; Abschnitte entladener Level fallen so von selbst heraus
+	private final Map<BufferedImage, Texture> textures = new WeakHashMap<>();
+	private final Map<TextureAtlas.Region, Boolean> opaqueRegions = new HashMap<>();
+	// Anzahl der Sprite-Reihen beim Kopieren der Atlas-Seiten; neue Reihen können Seiten verändern
+	private int registeredSprites = -1;
+
+	private Texture[] commandTextures = new Texture[256];
+	private int[] commands = new int[256 * FIELDS];
+	private int size;
+
+	private long frames, nanos, commandCount;
+
+	/**
+	 * Erzeugt einen Rasterizer mit der Anzahl Threads aus {@code -Dgame.rasterThreads}.
+	 */
+	public SoftwareRasterizer() {
+		this(Integer.getInteger("game.rasterThreads", Runtime.getRuntime().availableProcessors()));
+	}
+
+	/**
+	 * Erzeugt einen Rasterizer.
+	 *
+	 * @param threads Die Anzahl der Threads; bei 1 wird im aufrufenden Thread gezeichnet.
+	 */
+	public SoftwareRasterizer(int threads) {
+		this.threads = Math.max(1, threads);
+		pool = this.threads > 1 ? new ForkJoinPool(this.threads) : null;
+		int bands = Math.max(1, Math.min(height / MIN_BAND_HEIGHT, this.threads * BANDS_PER_THREAD));
+		if (this.threads == 1)
+			bands = 1;
+		bandHeight = (height + bands - 1) / bands;
+		bandCount = (height + bandHeight - 1) / bandHeight;
+	}
+
+	/**
+	 * Beginnt einen neuen Frame und verwirft die gesammelten Befehle.
+	 */
+	public void begin() {
+		size = 0;
+		if (SpriteRegistry.getSpriteCount() != registeredSprites) {
+			textures.clear();
+			opaqueRegions.clear();
+			registeredSprites = SpriteRegistry.getSpriteCount();
+		}
+	}
+
+	/**
+	 * Zeichnet ein ganzes Bild unskaliert, z.B. den Hintergrund oder einen Levelabschnitt.
+	 *
+	 * @param img Das Bild.
+	 * @param x   Die x-Position.
+	 * @param y   Die y-Position.
+	 */
+	public void drawImage(BufferedImage img, int x, int y) {
+		Texture t = texture(img);
+		add(t, 0, 0, img.getWidth(), img.getHeight(), x, y, img.getWidth(), img.getHeight(), t.opaque ? OPAQUE : 0);
+	}
+
+	/**
+	 * Zeichnet einen Frame aus dem Atlas, wie {@link SpriteVariants#draw}: weicht die Zielgröße
+	 * von der Atlasgröße ab, wird mit Nearest-Neighbour skaliert.
+	 *
+	 * @param spriteId Die Sprite-ID.
+	 * @param frameIdx Der Frame-Index.
+	 * @param variant  Die Kombination aus {@link SpriteVariants#MIRROR} und {@link SpriteVariants#FLASH}.
+	 * @param x        Die x-Position.
+	 * @param y        Die y-Position.
+	 * @param w        Die Zielbreite; negativ spiegelt wie bei {@code drawImage}.
+	 * @param h        Die Zielhöhe.
+	 */
+	public void drawSprite(int spriteId, int frameIdx, int variant, int x, int y, int w, int h) {
+		if (w < 0) {
+			x += w;
+			w = -w;
+			variant ^= SpriteVariants.MIRROR;
+		}
+		if (w == 0 || h <= 0)
+			return;
+		TextureAtlas.Region r = SpriteRegistry.getRegion(spriteId, frameIdx);
+		if (r == null)
+			return;
+		Texture t = texture(r.page());
+		Boolean opaque = opaqueRegions.get(r);
+		if (opaque == null) {
+			opaque = isOpaque(t.pixels, t.width, r.x(), r.y(), r.width(), r.height());
+			opaqueRegions.put(r, opaque);
+		}
+		int flags = ((variant & SpriteVariants.MIRROR) != 0 ? MIRROR : 0) | ((variant & SpriteVariants.FLASH) != 0 ? FLASH : 0);
+		add(t, r.x(), r.y(), r.width(), r.height(), x, y, w, h, flags | (opaque ? OPAQUE : 0));
+	}
+
+	private Texture texture(BufferedImage img) {
+		Texture t = textures.get(img);
+		if (t == null) {
+			t = new Texture(img);
+			textures.put(img, t);
+		}
+		return t;
+	}
+
+	private void add(Texture t, int sx, int sy, int sw, int sh, int dx, int dy, int dw, int dh, int flags) {
+		if (dx >= width || dy >= height || dx + dw <= 0 || dy + dh <= 0)
+			return;
+		if (size == commandTextures.length) {
+			commandTextures = Arrays.copyOf(commandTextures, size * 2);
+			commands = Arrays.copyOf(commands, size * 2 * FIELDS);
+		}
+		int c = size * FIELDS;
+		commands[c + SX] = sx;
+		commands[c + SY] = sy;
+		commands[c + SW] = sw;
+		commands[c + SH] = sh;
+		commands[c + DX] = dx;
+		commands[c + DY] = dy;
+		commands[c + DW] = dw;
+		commands[c + DH] = dh;
+		commands[c + FLAGS] = flags;
+		commandTextures[size++] = t;
+	}
+
+	/**
+	 * Führt die gesammelten Befehle bandweise parallel aus und kopiert das fertige Bild in einem
+	 * Aufruf auf die Grafikoberfläche.
+	 *
+	 * @param g Die Grafikoberfläche in Spielauflösung.
+	 */
+	public void flush(Graphics g) {
+		long start = System.nanoTime();
+		if (pool == null)
+			rasterize(0, height);
+		else
+			pool.invoke(new Bands(0, bandCount));
+		// Das Bild ist überall deckend; mit SRC kopiert Java2D nur noch um, statt jedes Pixel zu mischen.
+		if (g instanceof Graphics2D g2) {
+			Composite composite = g2.getComposite();
+			g2.setComposite(AlphaComposite.Src);
+			g2.drawImage(frame, 0, 0, null);
+			g2.setComposite(composite);
+		} else
+			g.drawImage(frame, 0, 0, null);
+		addFrame(System.nanoTime() - start, size);
+	}
+
+	private synchronized void addFrame(long frameNanos, int commandsInFrame) {
+		frames++;
+		nanos += frameNanos;
+		commandCount += commandsInFrame;
+	}
+
+	/**
+	 * Teilt einen Bereich von Bändern so lange, bis jede Aufgabe genau ein Band zeichnet.
+	 */
+	private class Bands extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private final int from, to;
+
+		Bands(int from, int to) {
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from == 1)
+				rasterize(from * bandHeight, Math.min(height, (from + 1) * bandHeight));
+			else {
+				int mid = (from + to) >>> 1;
+				invokeAll(new Bands(from, mid), new Bands(mid, to));
+			}
+		}
+	}
+
+	private void rasterize(int top, int bottom) {
+		if (!coversFrame())
+			Arrays.fill(dst, top * width, bottom * width, 0xFF000000);
+		for (int i = 0; i < size; i++)
+			blit(i, top, bottom);
+	}
+
+	// Deckt der erste Befehl das ganze Bild deckend ab, muss vorher nicht geleert werden.
+	private boolean coversFrame() {
+		if (size == 0)
+			return false;
+		return (commands[FLAGS] & OPAQUE) != 0 && commands[DX] <= 0 && commands[DY] <= 0 && commands[DX] + commands[DW] >= width
+				&& commands[DY] + commands[DH] >= height && commands[SW] == commands[DW] && commands[SH] == commands[DH];
+	}
+
+	private void blit(int i, int top, int bottom) {
+		int c = i * FIELDS;
+		int sx = commands[c + SX], sy = commands[c + SY], sw = commands[c + SW], sh = commands[c + SH];
+		int dx = commands[c + DX], dy = commands[c + DY], dw = commands[c + DW], dh = commands[c + DH];
+		int y0 = Math.max(dy, top), y1 = Math.min(dy + dh, bottom);
+		int x0 = Math.max(dx, 0), x1 = Math.min(dx + dw, width);
+		if (y0 >= y1 || x0 >= x1)
+			return;
+
+		int flags = commands[c + FLAGS];
+		boolean opaque = (flags & OPAQUE) != 0;
+		boolean mirror = (flags & MIRROR) != 0, flash = (flags & FLASH) != 0;
+		boolean scaledX = sw != dw, scaledY = sh != dh;
+		int[] src = commandTextures[i].pixels;
+		int[] spans = commandTextures[i].spans;
+		int stride = commandTextures[i].width;
+
+		for (int y = y0; y < y1; y++) {
+			int v = scaledY ? (int) ((2L * (y - dy) + 1) * sh / (2L * dh)) : y - dy;
+			int srcRow = (sy + v) * stride + sx;
+			int dstRow = y * width;
+
+			if (!mirror && !flash && !scaledX) {
+				int srcOff = srcRow + x0 - dx;
+				if (opaque) {
+					System.arraycopy(src, srcOff, dst, dstRow + x0, x1 - x0);
+					continue;
+				}
+				for (int x = x0; x < x1;) {
+					int k = srcOff + x - x0;
+					int n = Math.min(spans[k], x1 - x);
+					int a = src[k] >>> 24;
+					if (a == 255)
+						System.arraycopy(src, k, dst, dstRow + x, n);
+					else if (a != 0)
+						for (int j = 0; j < n; j++)
+							put(dstRow + x + j, src[k + j]);
+					x += n;
+				}
+				continue;
+			}
+
+			for (int x = x0; x < x1; x++) {
+				int u = scaledX ? (int) ((2L * (x - dx) + 1) * sw / (2L * dw)) : x - dx;
+				int p = src[srcRow + (mirror ? sw - 1 - u : u)];
+				if (flash)
+					p = flash(p);
+				put(dstRow + x, p);
+			}
+		}
+	}
+
+	private void put(int k, int p) {
+		int a = p >>> 24;
+		if (a == 255)
+			dst[k] = p;
+		else if (a != 0) {
+			int d = dst[k], ia = 255 - a;
+			int r = (((p >> 16) & 0xFF) * a + ((d >> 16) & 0xFF) * ia + 127) / 255;
+			int g = (((p >> 8) & 0xFF) * a + ((d >> 8) & 0xFF) * ia + 127) / 255;
+			int b = ((p & 0xFF) * a + (d & 0xFF) * ia + 127) / 255;
+			dst[k] = 0xFF000000 | r << 16 | g << 8 | b;
+		}
+	}
+
+	private static int flash(int p) {
+		int r = (p >> 16) & 0xFF, g = (p >> 8) & 0xFF, b = p & 0xFF;
+		r += (255 - r) * FLASH_WEIGHT >> 8;
+		g += (255 - g) * FLASH_WEIGHT >> 8;
+		b += (255 - b) * FLASH_WEIGHT >> 8;
+		return (p & 0xFF000000) | r << 16 | g << 8 | b;
+	}
+
+	// 0 transparent, 1 halbtransparent, 2 deckend
+	private static int coverage(int p) {
+		int a = p >>> 24;
+		return a == 0 ? 0 : a == 255 ? 2 : 1;
+	}
+
+	private static boolean isOpaque(int[] pixels, int stride, int x, int y, int w, int h) {
+		for (int j = y; j < y + h; j++)
+			for (int i = x; i < x + w; i++)
+				if (pixels[j * stride + i] >>> 24 != 255)
+					return false;
+		return true;
+	}
+
+	public int getThreads() {
+		return threads;
+	}
+
+	/**
+	 * Schließt das Messfenster ab und fasst Zeichenzeit, Befehle und Bänder zusammen.
+	 *
+	 * @return Die Zusammenfassung.
+	 */
+	public synchronized String report() {
+		String report = String.format("Software-Renderer: %.2f ms/Frame, %d Befehle/Frame, %d Bänder auf %d Threads", frames == 0 ? 0f : nanos / 1_000_000f / frames,
+				frames == 0 ? 0 : commandCount / frames, bandCount, threads);
+		frames = nanos = commandCount = 0;
+		return report;
+	}
+}
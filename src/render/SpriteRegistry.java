@@ -0,0 +1,147 @@
+package render;
+
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import mainPackage.Game;
+
+/**
+ * Die Klasse SpriteRegistry vergibt für jede geladene Animationsreihe eine feste Sprite-ID.
+ * Render-Snapshots speichern nur Sprite-ID und Frame-Index; der Renderer löst diese hier wieder
+ * zu Regionen im gemeinsamen {@link TextureAtlas} auf. Eine Registrierung unter einem bereits
+ * bekannten Schlüssel liefert die vorhandene ID zurück, so dass mehrere Spielinstanzen dieselben
+ * IDs verwenden und jedes Sprite-Sheet nur einmal gepackt wird.
+ */
+public class SpriteRegistry {
+
+	// Kantenlänge einer Atlas-Seite, mit der Spielgrafik skaliert (1024 bei Faktor 1, höchstens 2048)
+	private static final int PAGE_SIZE = Math.min(2048, Math.round(1024 * Game.SCALE));
+
+	private static final Map<String, Integer> ids = new HashMap<>();
+	private static final TextureAtlas atlas = new TextureAtlas(PAGE_SIZE);
+	// Wird bei jeder Registrierung kopiert, damit Renderer ohne Sperre lesen können.
+	private static volatile TextureAtlas.Region[][] regions = new TextureAtlas.Region[0][];
+
+	/**
+	 * Registriert eine Animationsreihe und packt ihre Frames in den Atlas, bereits auf
+	 * {@link Game#SCALE} vergrößert.
+	 *
+	 * @param key    Ein eindeutiger Schlüssel, z.B. der Dateiname des Atlas plus Zeile.
+	 * @param frames Die Einzelbilder der Animation.
+	 * @return Die Sprite-ID der Reihe.
+	 */
+	public static synchronized int register(String key, BufferedImage[] frames) {
+		Integer id = ids.get(key);
+		if (id != null)
+			return id;
+		id = regions.length;
+		TextureAtlas.Region[] packed = atlas.add(frames, Game.SCALE);
+		TextureAtlas.Region[][] grown = Arrays.copyOf(regions, id + 1);
+		grown[id] = packed;
+		regions = grown;
+		ids.put(key, id);
+		return id;
+	}
+
+	/**
+	 * Registriert jede Zeile eines zweidimensionalen Bildarrays als eigene Animationsreihe.
+	 *
+	 * @param key  Der Schlüssel des Atlas; die Zeilennummer wird angehängt.
+	 * @param rows Die Animationen, eine Zeile pro Zustand.
+	 * @return Die Sprite-IDs der Zeilen, in derselben Reihenfolge.
+	 */
+	public static int[] register(String key, BufferedImage[][] rows) {
+		int[] rowIds = new int[rows.length];
+		for (int j = 0; j < rows.length; j++)
+			rowIds[j] = register(key + "#" + j, rows[j]);
+		return rowIds;
+	}
+
+	/**
+	 * Registriert ein Einzelbild als Animationsreihe mit genau einem Frame.
+	 *
+	 * @param key Der Schlüssel des Bildes.
+	 * @param img Das Bild.
+	 * @return Die Sprite-ID.
+	 */
+	public static int register(String key, BufferedImage img) {
+		return register(key, new BufferedImage[] { img });
+	}
+
+	/**
+	 * Gibt die Atlas-Region eines Frames einer registrierten Animationsreihe zurück.
+	 *
+	 * @param spriteId Die Sprite-ID.
+	 * @param frame    Der Frame-Index.
+	 * @return Die Region oder null, wenn der Frame leer ist.
+	 */
+	public static TextureAtlas.Region getRegion(int spriteId, int frame) {
+		return regions[spriteId][frame];
+	}
+
+	/**
+	 * Zeichnet einen Frame aus dem Atlas in das Zielrechteck. Ist {@code dx1 > dx2}, wird der
+	 * Frame horizontal gespiegelt. Weicht das Ziel von der Atlasgröße ab oder wird gespiegelt,
+	 * kommt eine passende Kopie aus {@link SpriteVariants}, es wird also nie pro Frame skaliert.
+	 *
+	 * @param g        Die Grafikoberfläche.
+	 * @param spriteId Die Sprite-ID.
+	 * @param frame    Der Frame-Index.
+	 * @param dx1      Die linke (bzw. bei Spiegelung rechte) Kante des Ziels.
+	 * @param dy1      Die obere Kante des Ziels.
+	 * @param dx2      Die rechte (bzw. bei Spiegelung linke) Kante des Ziels.
+	 * @param dy2      Die untere Kante des Ziels.
+	 */
+	public static void drawTo(Graphics g, int spriteId, int frame, int dx1, int dy1, int dx2, int dy2) {
+		TextureAtlas.Region r = regions[spriteId][frame];
+		if (r == null)
+			return;
+		if (dx2 - dx1 == r.width() && dy2 - dy1 == r.height())
+			blit(g, r, dx1, dy1);
+		else
+			SpriteVariants.draw(g, spriteId, frame, dx1 > dx2 ? SpriteVariants.MIRROR : 0, Math.min(dx1, dx2), dy1, Math.abs(dx2 - dx1), dy2 - dy1);
+	}
+
+	/**
+	 * Kopiert eine Region unskaliert an eine Position.
+	 */
+	static void blit(Graphics g, TextureAtlas.Region r, int x, int y) {
+		g.drawImage(r.page(), x, y, x + r.width(), y + r.height(), r.x(), r.y(), r.x() + r.width(), r.y() + r.height(), null);
+	}
+
+	/**
+	 * Zeichnet einen Frame aus dem Atlas an eine Position und in eine Größe.
+	 *
+	 * @param g        Die Grafikoberfläche.
+	 * @param spriteId Die Sprite-ID.
+	 * @param frame    Der Frame-Index.
+	 * @param x        Die x-Position.
+	 * @param y        Die y-Position.
+	 * @param width    Die Zielbreite.
+	 * @param height   Die Zielhöhe.
+	 */
+	public static void draw(Graphics g, int spriteId, int frame, int x, int y, int width, int height) {
+		drawTo(g, spriteId, frame, x, y, x + width, y + height);
+	}
+
+	/**
+	 * Gibt die Anzahl der registrierten Animationsreihen zurück.
+	 *
+	 * @return Die Anzahl der Sprite-IDs.
+	 */
+	public static int getSpriteCount() {
+		return regions.length;
+	}
+
+	/**
+	 * Fasst den Zustand des Atlas zusammen, siehe {@link TextureAtlas#report()}.
+	 *
+	 * @return Die Zusammenfassung.
+	 */
+	public static synchronized String report() {
+		return atlas.report();
+	}
+}
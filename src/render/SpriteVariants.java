@@ -0,0 +1,149 @@
+package render;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import utilz.LoadSave;
+
+/**
+ * Die Klasse SpriteVariants hält abgewandelte Kopien von Atlas-Frames: horizontal gespiegelt
+ * und/oder als weißer Treffer-Blitz, oder nur in einer anderen Größe als im Atlas. Jede Variante
+ * wird beim ersten Gebrauch in genau der Zielgröße erzeugt, so dass der Renderer sie immer 1:1
+ * kopieren kann, statt über den langsameren transformierten Pfad von Java2D zu zeichnen.
+ * Der Cache ist durch eine Speichergrenze beschränkt (Standard 4096 KB, änderbar mit
+ * {@code -Dgame.variantCacheKB}); bei Überschreitung werden die am längsten nicht benutzten
+ * Varianten verworfen.
+ */
+public class SpriteVariants {
+
+	/** Der Frame wird horizontal gespiegelt. */
+	public static final int MIRROR = 1;
+	/** Der Frame wird weiß überblendet (Treffer-Blitz). */
+	public static final int FLASH = 2;
+
+	private static final float FLASH_STRENGTH = 0.7f;
+	private static final long MAX_BYTES = Math.max(64, Integer.getInteger("game.variantCacheKB", 4096)) * 1024L;
+
+	private static final LinkedHashMap<Long, BufferedImage> cache = new LinkedHashMap<>(64, 0.75f, true);
+	private static long bytes;
+	private static long hits, misses, evictions;
+
+	/**
+	 * Zeichnet die Variante eines Frames in ihrer Zielgröße. Ohne Variante und in Atlasgröße wird
+	 * direkt aus dem Atlas gezeichnet.
+	 *
+	 * @param g        Die Grafikoberfläche.
+	 * @param spriteId Die Sprite-ID.
+	 * @param frame    Der Frame-Index.
+	 * @param variant  Die Kombination aus {@link #MIRROR} und {@link #FLASH}.
+	 * @param x        Die x-Position.
+	 * @param y        Die y-Position.
+	 * @param width    Die Zielbreite; negativ spiegelt wie bei {@code drawImage}.
+	 * @param height   Die Zielhöhe.
+	 */
+	public static void draw(Graphics g, int spriteId, int frame, int variant, int x, int y, int width, int height) {
+		if (width < 0) {
+			// negative Breite wie bei drawImage: an der x-Position nach links gespiegelt
+			x += width;
+			width = -width;
+			variant ^= MIRROR;
+		}
+		if (width == 0 || height <= 0)
+			return;
+		if (variant == 0) {
+			TextureAtlas.Region r = SpriteRegistry.getRegion(spriteId, frame);
+			if (r == null)
+				return;
+			if (r.width() == width && r.height() == height) {
+				SpriteRegistry.blit(g, r, x, y);
+				return;
+			}
+		}
+		BufferedImage img = get(spriteId, frame, variant, width, height);
+		if (img != null)
+			g.drawImage(img, x, y, null);
+	}
+
+	private static synchronized BufferedImage get(int spriteId, int frame, int variant, int width, int height) {
+		long key = ((long) spriteId << 44) | ((long) frame << 34) | ((long) variant << 30) | ((long) (width & 0x7FFF) << 15) | (height & 0x7FFF);
+		BufferedImage img = cache.get(key);
+		if (img != null) {
+			hits++;
+			return img;
+		}
+		misses++;
+		TextureAtlas.Region r = SpriteRegistry.getRegion(spriteId, frame);
+		if (r == null)
+			return null;
+
+		img = build(r, variant, width, height);
+		cache.put(key, img);
+		bytes += sizeOf(img);
+		evict();
+		return img;
+	}
+
+	private static BufferedImage build(TextureAtlas.Region r, int variant, int width, int height) {
+		BufferedImage img = LoadSave.CreateCompatibleImage(width, height, Transparency.TRANSLUCENT);
+		Graphics2D g = img.createGraphics();
+		if ((variant & MIRROR) != 0)
+			g.drawImage(r.page(), width, 0, 0, height, r.x(), r.y(), r.x() + r.width(), r.y() + r.height(), null);
+		else
+			g.drawImage(r.page(), 0, 0, width, height, r.x(), r.y(), r.x() + r.width(), r.y() + r.height(), null);
+		if ((variant & FLASH) != 0) {
+			g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_ATOP, FLASH_STRENGTH));
+			g.setColor(Color.WHITE);
+			g.fillRect(0, 0, width, height);
+		}
+		g.dispose();
+		return img;
+	}
+
+	private static void evict() {
+		Iterator<Map.Entry<Long, BufferedImage>> it = cache.entrySet().iterator();
+		while (bytes > MAX_BYTES && cache.size() > 1 && it.hasNext()) {
+			bytes -= sizeOf(it.next().getValue());
+			it.remove();
+			evictions++;
+		}
+	}
+
+	private static long sizeOf(BufferedImage img) {
+		return (long) img.getWidth() * img.getHeight() * 4;
+	}
+
+	/**
+	 * Gibt den Anteil der Zugriffe zurück, die eine bereits erzeugte Variante fanden.
+	 *
+	 * @return Die Trefferquote zwischen 0 und 1.
+	 */
+	public static synchronized float getHitRate() {
+		long total = hits + misses;
+		return total == 0 ? 0f : hits / (float) total;
+	}
+
+	/**
+	 * Gibt den Speicher aller zwischengespeicherten Varianten zurück.
+	 *
+	 * @return Der belegte Speicher in Bytes.
+	 */
+	public static synchronized long getMemoryBytes() {
+		return bytes;
+	}
+
+	/**
+	 * Fasst den Cache zusammen: Trefferquote, Anzahl, Speicher und Verdrängungen.
+	 *
+	 * @return Die Zusammenfassung.
+	 */
+	public static synchronized String report() {
+		return String.format("Varianten: %d (%d/%d KB), Treffer %.1f%%, verdrängt %d", cache.size(), bytes / 1024, MAX_BYTES / 1024, getHitRate() * 100f, evictions);
+	}
+}
@@ -0,0 +1,308 @@
+package render;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import utilz.LoadSave;
+
+/**
+ * Die Klasse TextureAtlas packt Einzelbilder zur Laufzeit in wenige große Seiten. Gepackt wird
+ * zeilenweise (Shelf-Packing): Ein Frame kommt in die passendste offene Zeile, deren Höhe er
+ * nicht überschreitet und höchstens zu einem Viertel verschwendet. Passt er in keine, wird der
+ * freie Rest einer mindestens doppelt so hohen Zeile in übereinander liegende Unterzeilen
+ * geteilt, sonst unten auf der Seite eine neue Zeile mit seiner Höhe eröffnet. Vollständig
+ * transparente Frames (leere Zellen der Sprite-Sheets) belegen keinen Platz, gleiche Bildinstanzen
+ * werden nur einmal gepackt. Die Seite, auf der gerade neue Zeilen entstehen, ist nur so hoch wie
+ * ihr Inhalt und wächst beim Packen schrittweise bis zur vollen Seitengröße; Frames höher als ein
+ * Viertel der Seite und schmale Animationsreihen, die eine Zeile kaum füllen würden, bekommen eine
+ * eigene Seite genau in ihrer Größe. So belegt der Atlas kaum mehr Speicher als die Einzelbilder.
+ * Nicht threadsicher; {@link SpriteRegistry} synchronisiert den Zugriff.
+ */
+public class TextureAtlas {
+
+	/**
+	 * Ein gepackter Frame: Atlas, laufende Nummer der Seite und das Quellrechteck darauf.
+	 */
+	public record Region(TextureAtlas atlas, int pageIndex, int x, int y, int width, int height) {
+
+		/**
+		 * Gibt das aktuelle Bild der Seite zurück; wächst die Seite, ist es ein neues Bild.
+		 *
+		 * @return Die Seite.
+		 */
+		public BufferedImage page() {
+			return atlas.pages[pageIndex];
+		}
+	}
+
+	/**
+	 * Eine Zeile auf einer Seite; {@code x} ist die nächste freie Spalte, {@code limit} die rechte
+	 * Grenze. Wurde der Rest rechts von {@code x} in Unterzeilen geteilt, liegt er zwischen
+	 * {@code restLeft} und {@code restRight}, und {@code restBottom} ist die Unterkante der
+	 * bisherigen Unterzeilen.
+	 */
+	private static class Shelf {
+		final int page, y, height;
+		int x, limit;
+		int restLeft = -1, restRight, restBottom;
+
+		Shelf(int page, int x, int y, int height, int limit) {
+			this.page = page;
+			this.x = x;
+			this.y = y;
+			this.height = height;
+			this.limit = limit;
+		}
+	}
+
+	// Abstand zwischen Frames, damit beim Skalieren keine Nachbarpixel durchscheinen
+	private static final int PADDING = 1;
+	// Schrittweite, in der die Seite für neue Zeilen nach unten wächst
+	private static final int GROW_STEP = 32;
+
+	private final int pageSize;
+	// Wird beim Anlegen und Wachsen kopiert, damit Renderer ohne Sperre lesen können.
+	private volatile BufferedImage[] pages = new BufferedImage[0];
+	private final List<Graphics2D> pageGraphics = new ArrayList<>();
+	private final List<Shelf> shelves = new ArrayList<>();
+	private final Map<BufferedImage, Region> packed = new IdentityHashMap<>();
+	// Seite, auf der neue Zeilen entstehen, Unterkante ihrer Zeilen und ihre größte Höhe
+	private int current = -1, pageBottom, pageMaxHeight;
+
+	// Breite der Frames, die gerade gemeinsam gepackt werden, siehe add(BufferedImage[], float)
+	private int batchWidth;
+
+	private int framesPacked, framesBlank, framesShared;
+	private long framePixels, frameBytes;
+
+	/**
+	 * Erzeugt einen leeren Atlas.
+	 *
+	 * @param pageSize Die Kantenlänge einer Seite in Pixeln.
+	 */
+	public TextureAtlas(int pageSize) {
+		this.pageSize = pageSize;
+	}
+
+	/**
+	 * Packt die Frames einer Animationsreihe in den Atlas, siehe {@link #add(BufferedImage, float)}.
+	 * Würde die Reihe eine neue, mehr als ein Sechzehntel der Seite hohe Zeile eröffnen und sie
+	 * nicht einmal zur Hälfte füllen, bekommt sie stattdessen eine eigene Seite genau in ihrer
+	 * Größe; sonst bliebe der Rest der Zeile meist leer.
+	 *
+	 * @param frames Die Einzelbilder.
+	 * @param scale  Der Vergrößerungsfaktor.
+	 * @return Die Regionen, null für vollständig transparente Frames.
+	 */
+	public Region[] add(BufferedImage[] frames, float scale) {
+		batchWidth = 0;
+		for (BufferedImage frame : frames)
+			if (frame != null && !packed.containsKey(frame) && !isBlank(frame))
+				batchWidth += Math.max(1, (int) (frame.getWidth() * scale)) + PADDING;
+		Region[] regions = new Region[frames.length];
+		for (int i = 0; i < frames.length; i++)
+			regions[i] = add(frames[i], scale);
+		batchWidth = 0;
+		return regions;
+	}
+
+	/**
+	 * Packt einen Frame in den Atlas, vergrößert um {@code scale} mit Nearest-Neighbour wie beim
+	 * bisherigen Skalieren pro Zeichenaufruf. Die Zielgröße wird wie bei den Größenkonstanten in
+	 * {@code utilz.Constants} abgeschnitten.
+	 *
+	 * @param frame Das Einzelbild.
+	 * @param scale Der Vergrößerungsfaktor.
+	 * @return Die Region des Frames oder null, wenn der Frame vollständig transparent ist.
+	 */
+	public Region add(BufferedImage frame, float scale) {
+		if (frame == null)
+			return null;
+		Region region = packed.get(frame);
+		if (region != null || packed.containsKey(frame)) {
+			framesShared++;
+			return region;
+		}
+
+		frameBytes += (long) (int) (frame.getWidth() * scale) * (int) (frame.getHeight() * scale) * 4;
+		if (isBlank(frame)) {
+			framesBlank++;
+			packed.put(frame, null);
+			return null;
+		}
+
+		int w = Math.max(1, (int) (frame.getWidth() * scale));
+		int h = Math.max(1, (int) (frame.getHeight() * scale));
+		Shelf shelf = findShelf(w, h);
+		region = new Region(this, shelf.page, shelf.x, shelf.y, w, h);
+		pageGraphics.get(shelf.page).drawImage(frame, region.x(), region.y(), w, h, null);
+		shelf.x += w + PADDING;
+		packed.put(frame, region);
+		framesPacked++;
+		framePixels += (long) w * h;
+		return region;
+	}
+
+	private Shelf findShelf(int w, int h) {
+		Shelf best = bestShelf(w, h, true);
+		if (best != null)
+			return best;
+		best = splitRest(w, h);
+		if (best != null)
+			return best;
+		if (h * 4 > pageSize)
+			return ownPage(w, h);
+		if (batchWidth * 2 < pageSize && batchWidth >= w && h * 16 > pageSize)
+			return ownPage(batchWidth - PADDING, h);
+
+		if (current < 0 || pageBottom + h > pageMaxHeight || w > pages[current].getWidth()) {
+			// Bevor eine neue Seite angelegt wird, darf der Frame auch in eine deutlich höhere Zeile
+			best = bestShelf(w, h, false);
+			if (best != null)
+				return best;
+			newPage(Math.max(pageSize, w), Math.max(pageSize, h));
+		}
+		growPage(pageBottom + h);
+		Shelf shelf = new Shelf(current, 0, pageBottom, h, pages[current].getWidth());
+		shelves.add(shelf);
+		pageBottom += h + PADDING;
+		return shelf;
+	}
+
+	private Shelf bestShelf(int w, int h, boolean limitWaste) {
+		Shelf best = null;
+		for (Shelf shelf : shelves)
+			if (h <= shelf.height && (!limitWaste || h * 4 >= shelf.height * 3) && shelf.x + w <= shelf.limit
+					&& (best == null || shelf.height < best.height))
+				best = shelf;
+		return best;
+	}
+
+	/**
+	 * Legt im freien Rest einer mindestens doppelt so hohen Zeile eine Unterzeile für den Frame
+	 * an. Die Zeile selbst nimmt danach keine Frames mehr auf; ihr Rest gehört den Unterzeilen.
+	 * Gewählt wird die niedrigste passende Zeile.
+	 *
+	 * @return Die neue Unterzeile oder null, wenn kein Rest passt.
+	 */
+	private Shelf splitRest(int w, int h) {
+		Shelf best = null;
+		for (Shelf shelf : shelves) {
+			if (h * 2 > shelf.height || (best != null && shelf.height >= best.height))
+				continue;
+			boolean split = shelf.restLeft >= 0;
+			int restWidth = split ? shelf.restRight - shelf.restLeft : shelf.limit - shelf.x;
+			int restHeight = split ? shelf.y + shelf.height - shelf.restBottom : shelf.height;
+			if (w <= restWidth && h <= restHeight)
+				best = shelf;
+		}
+		if (best == null)
+			return null;
+		if (best.restLeft < 0) {
+			best.restLeft = best.x;
+			best.restRight = best.limit;
+			best.restBottom = best.y;
+			best.limit = best.x;
+		}
+		Shelf shelf = new Shelf(best.page, best.restLeft, best.restBottom, h, best.restRight);
+		shelves.add(shelf);
+		best.restBottom += h + PADDING;
+		return shelf;
+	}
+
+	private void newPage(int width, int maxHeight) {
+		current = addPage(width, Math.min(maxHeight, GROW_STEP));
+		pageBottom = 0;
+		pageMaxHeight = maxHeight;
+	}
+
+	/**
+	 * Legt für einen hohen Frame oder eine schmale Reihe eine eigene Seite genau in ihrer Größe
+	 * an, mit einer einzigen Zeile. Die Seite für neue Zeilen bleibt dieselbe.
+	 */
+	private Shelf ownPage(int w, int h) {
+		Shelf shelf = new Shelf(addPage(w, h), 0, 0, h, w);
+		shelves.add(shelf);
+		return shelf;
+	}
+
+	private int addPage(int width, int height) {
+		BufferedImage page = LoadSave.CreateCompatibleImage(width, height, Transparency.TRANSLUCENT);
+		pageGraphics.add(page.createGraphics());
+		BufferedImage[] grown = Arrays.copyOf(pages, pages.length + 1);
+		grown[pages.length] = page;
+		pages = grown;
+		return pages.length - 1;
+	}
+
+	/**
+	 * Vergrößert die Seite für neue Zeilen, falls nötig, so dass sie bis {@code bottom} reicht,
+	 * auf das nächste Vielfache von {@link #GROW_STEP}. Der bisherige Inhalt wird in das neue
+	 * Bild kopiert.
+	 */
+	private void growPage(int bottom) {
+		int last = current;
+		BufferedImage page = pages[last];
+		if (bottom <= page.getHeight())
+			return;
+		int height = Math.min(pageMaxHeight, (bottom + GROW_STEP - 1) / GROW_STEP * GROW_STEP);
+		BufferedImage grownPage = LoadSave.CreateCompatibleImage(page.getWidth(), height, Transparency.TRANSLUCENT);
+		Graphics2D g = grownPage.createGraphics();
+		g.setComposite(AlphaComposite.Src);
+		g.drawImage(page, 0, 0, null);
+		g.setComposite(AlphaComposite.SrcOver);
+		pageGraphics.set(last, g).dispose();
+		BufferedImage[] copy = pages.clone();
+		copy[last] = grownPage;
+		pages = copy;
+	}
+
+	private static boolean isBlank(BufferedImage img) {
+		if (img.getColorModel().getTransparency() == Transparency.OPAQUE)
+			return false;
+		for (int y = 0; y < img.getHeight(); y++)
+			for (int x = 0; x < img.getWidth(); x++)
+				if ((img.getRGB(x, y) >>> 24) != 0)
+					return false;
+		return true;
+	}
+
+	public int getPageCount() {
+		return pages.length;
+	}
+
+	/**
+	 * Gibt den Anteil der Seitenfläche zurück, der von Frames belegt ist.
+	 *
+	 * @return Der Packungsgrad zwischen 0 und 1.
+	 */
+	public float getPackingRatio() {
+		long pageArea = 0;
+		for (BufferedImage page : pages)
+			pageArea += (long) page.getWidth() * page.getHeight();
+		return pageArea == 0 ? 0f : framePixels / (float) pageArea;
+	}
+
+	/**
+	 * Fasst den Atlas zusammen: Anzahl der Frames, Seiten, Packungsgrad und den Speicher der
+	 * Seiten im Vergleich zu den bisherigen Einzelbildern. Die Seitengröße ist die höchstens
+	 * belegte Fläche; die letzte Seite kann niedriger sein.
+	 *
+	 * @return Die Zusammenfassung.
+	 */
+	public String report() {
+		long pageBytes = 0;
+		for (BufferedImage page : pages)
+			pageBytes += (long) page.getWidth() * page.getHeight() * 4;
+		return String.format("Textur-Atlas: %d Frames auf %d Seiten (bis %dx%d), Packungsgrad %.0f%%, %d leere und %d doppelte Frames übersprungen | Einzelbilder %d KB -> Seiten %d KB (gespart: %+d KB), %d Bilder weniger",
+				framesPacked, pages.length, pageSize, pageSize, getPackingRatio() * 100f, framesBlank, framesShared, frameBytes / 1024, pageBytes / 1024,
+				(frameBytes - pageBytes) / 1024, framesPacked + framesBlank - pages.length);
+	}
+}
@@ -0,0 +1,73 @@
+package tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import mainPackage.Game;
+import render.Backbuffer;
+import render.FrameCapture;
+
+public class FrameCaptureTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void nothingIsCapturedWhileIdle() {
+        FrameCapture capture = new FrameCapture(dir.toFile(), FrameCapture.RAW);
+        assertFalse(capture.isPending());
+        assertFalse(capture.capture(new Backbuffer()));
+        assertEquals(0, capture.getCaptured() + capture.getDropped());
+    }
+
+    @Test
+    void framesAreDroppedInsteadOfBlockingAndAllQueuedFramesAreWritten() throws InterruptedException {
+        FrameCapture capture = new FrameCapture(dir.toFile(), FrameCapture.RAW);
+        Backbuffer backbuffer = new Backbuffer();
+
+        capture.toggleRecording();
+        int offered = 200;
+        for (int i = 0; i < offered; i++)
+            capture.capture(backbuffer);
+        capture.toggleRecording();
+
+        // Every offered frame is either queued or counted as dropped
+        assertEquals(offered, capture.getCaptured() + capture.getDropped());
+        assertTrue(capture.getCaptured() > 0);
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!capture.isDrained() && System.currentTimeMillis() < deadline)
+            Thread.sleep(10);
+        assertTrue(capture.isDrained());
+
+        File[] files = dir.toFile().listFiles((d, name) -> name.endsWith(".rgb"));
+        assertEquals(1, files.length);
+        assertEquals(capture.getWritten() * Game.GAME_WIDTH * Game.GAME_HEIGHT * 3, files[0].length());
+    }
+
+    @Test
+    void failedWritesAreCountedAndStopTheRecording() throws IOException, InterruptedException {
+        // A regular file in place of the directory makes every write fail
+        File notADirectory = Files.createFile(dir.resolve("blocked")).toFile();
+        FrameCapture capture = new FrameCapture(notADirectory, FrameCapture.RAW);
+        Backbuffer backbuffer = new Backbuffer();
+
+        capture.toggleRecording();
+        capture.capture(backbuffer);
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!capture.isDrained() && System.currentTimeMillis() < deadline)
+            Thread.sleep(10);
+        assertTrue(capture.isDrained());
+        assertEquals(1, capture.getFailed());
+        assertEquals(0, capture.getWritten());
+        assertFalse(capture.isRecording());
+    }
+}
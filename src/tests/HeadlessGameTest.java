@@ -0,0 +1,80 @@
+package tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import entities.Player;
+import inputs.PlayerInput;
+import inputs.Replay;
+import mainPackage.Game;
+
+public class HeadlessGameTest {
+
+    private Game game;
+
+    @BeforeEach
+    void setUp() {
+        // No window, no Swing panel and no audio device needed
+        game = new Game(true);
+        game.startHeadless(0);
+    }
+
+    @Test
+    void testHeadlessInitialization() {
+        assertTrue(game.isHeadless());
+        assertNull(game.getGamePanel());
+        assertNull(game.getGameWindow());
+        assertNotNull(game.getAudioPlayer());
+        assertNotNull(game.getPlaying().getPlayer());
+        assertNotNull(game.getPlaying().getLevelManager());
+        assertNotNull(game.getPlaying().getEnemyManager());
+        assertNotNull(game.getPlaying().getObjectManager());
+    }
+
+    @Test
+    void testSimulationSteps() {
+        float startY = game.getPlaying().getPlayer().getHitbox().y;
+        game.runHeadless(500, 0);
+        // The player spawns in the air and falls onto the ground
+        assertNotEquals(startY, game.getPlaying().getPlayer().getHitbox().y);
+    }
+
+    @Test
+    void testOffscreenRendering() {
+        BufferedImage frame = new BufferedImage(Game.GAME_WIDTH, Game.GAME_HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        game.step();
+        game.renderOffscreen(frame);
+        assertNotEquals(0, frame.getRGB(Game.GAME_WIDTH / 2, Game.GAME_HEIGHT / 2));
+    }
+
+    @Test
+    void testReplayIsDeterministic() {
+        game.getPlaying().startSession(0, 42L);
+        game.getPlaying().startRecording();
+        PlayerInput input = game.getPlaying().getPlayerInput();
+        for (int i = 0; i < 2000; i++) {
+            input.set(PlayerInput.RIGHT, i < 1200);
+            input.set(PlayerInput.JUMP, i % 400 < 10);
+            if (i % 250 == 0)
+                input.fire(PlayerInput.ATTACK);
+            game.step();
+        }
+        Replay replay = game.getPlaying().stopRecording();
+        Player player = game.getPlaying().getPlayer();
+        float x = player.getHitbox().x;
+        float y = player.getHitbox().y;
+        assertEquals(2000, replay.getTickCount());
+
+        Game other = new Game(true);
+        other.startHeadless(0);
+        other.getPlaying().playReplay(replay);
+        while (other.getPlaying().isPlayingBack())
+            other.step();
+        assertEquals(x, other.getPlaying().getPlayer().getHitbox().x);
+        assertEquals(y, other.getPlaying().getPlayer().getHitbox().y);
+    }
+}
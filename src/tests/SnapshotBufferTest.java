@@ -0,0 +1,47 @@
+package tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import render.RenderSnapshot;
+import render.SnapshotBuffer;
+
+public class SnapshotBufferTest {
+
+    @Test
+    void acquireReturnsLatestPublishedSnapshot() {
+        SnapshotBuffer buffer = new SnapshotBuffer();
+
+        RenderSnapshot first = buffer.beginWrite();
+        first.add(0, 0, 10, 20, 32, 32, 0);
+        buffer.publish();
+
+        RenderSnapshot second = buffer.beginWrite();
+        assertNotSame(first, second);
+        second.add(0, 0, 30, 40, 32, 32, 0);
+        second.add(0, 1, 50, 60, 32, 32, RenderSnapshot.FLIP_X);
+        buffer.publish();
+
+        RenderSnapshot read = buffer.acquire();
+        assertEquals(second.getTick(), read.getTick());
+        assertEquals(2, read.size());
+    }
+
+    @Test
+    void readerKeepsSnapshotWhileWriterContinues() {
+        SnapshotBuffer buffer = new SnapshotBuffer();
+        buffer.beginWrite();
+        buffer.publish();
+        RenderSnapshot read = buffer.acquire();
+        long tick = read.getTick();
+
+        // The writer must never reuse the buffer the reader currently holds
+        for (int i = 0; i < 10; i++) {
+            assertNotSame(read, buffer.beginWrite());
+            buffer.publish();
+        }
+        assertEquals(tick, read.getTick());
+        assertTrue(buffer.acquire().getTick() > tick);
+    }
+}
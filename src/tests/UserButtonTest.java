@@ -20,7 +20,7 @@ class UserButtonTest {
     public void testWriteToFile() {
         // Create an instance of your Game and Playing classes
         // You'll need to replace the parameters with appropriate values
-        Game game = new Game();
+        Game game = new Game(true);
         Playing playing = new Playing(game);
 
         // Create an instance of your ChangeUser class
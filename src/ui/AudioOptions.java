@@ -8,6 +8,7 @@ import java.awt.Graphics;
 import java.awt.event.MouseEvent;
 
 import mainPackage.Game;
+import render.DirtyRegions;
 
 /**
  * Die Klasse AudioOptions repräsentiert die Optionen für Audioeinstellungen im Spiel.
@@ -48,9 +49,21 @@ public class AudioOptions {
      * Aktualisiert die Audiooptionen.
      */
     public void update() {
-        musicButton.update();
-        sfxButton.update();
-        volumeButton.update();
+        update(null);
+    }
+
+    /**
+     * Aktualisiert die Audiooptionen und meldet die Schaltflächen, deren Bild sich geändert hat.
+     *
+     * @param dirty Nimmt die neu zu zeichnenden Flächen auf, oder null.
+     */
+    public void update(DirtyRegions dirty) {
+        if (musicButton.update() && dirty != null)
+            dirty.add(musicButton.getBounds());
+        if (sfxButton.update() && dirty != null)
+            dirty.add(sfxButton.getBounds());
+        if (volumeButton.update() && dirty != null)
+            dirty.add(volumeButton.getSliderBounds());
     }
 
     /**
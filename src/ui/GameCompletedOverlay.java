@@ -15,6 +15,9 @@ import utilz.LoadSave;
  * Es enthält ein Bild, das den Abschluss des Spiels signalisiert, sowie Schaltflächen für Menü und Credits.
  */
 public class GameCompletedOverlay {
+
+    private static final Color DIM = new Color(0, 0, 0, 200);
+
     private Playing playing;
     private BufferedImage img;
     private MenuButton quit, credit;
@@ -42,19 +45,28 @@ public class GameCompletedOverlay {
         imgH = (int) (img.getHeight() * Game.SCALE);
         imgX = Game.GAME_WIDTH / 2 - imgW / 2;
         imgY = (int) (100 * Game.SCALE);
+        img = LoadSave.GetScaledImage(LoadSave.GAME_COMPLETED, imgW, imgH);
     }
 
     /**
-     * Zeichnet das Overlay auf den Bildschirm.
+     * Zeichnet die Abdunklung und das Hintergrundbild des Overlays. Beides ändert sich nicht,
+     * solange das Overlay offen ist, und wird von {@link OverlayCache} zwischengespeichert.
      *
      * @param g Die Graphics-Instanz zum Zeichnen.
      */
-    public void draw(Graphics g) {
-        g.setColor(new Color(0, 0, 0, 200));
+    public void drawBackground(Graphics g) {
+        g.setColor(DIM);
         g.fillRect(0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT);
 
-        g.drawImage(img, imgX, imgY, imgW, imgH, null);
+        g.drawImage(img, imgX, imgY, null);
+    }
 
+    /**
+     * Zeichnet die Schaltflächen des Overlays.
+     *
+     * @param g Die Graphics-Instanz zum Zeichnen.
+     */
+    public void drawButtons(Graphics g) {
         credit.draw(g);
         quit.draw(g);
     }
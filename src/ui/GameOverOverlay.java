@@ -18,6 +18,8 @@ import utilz.LoadSave;
  */
 public class GameOverOverlay {
 
+    private static final Color DIM = new Color(0, 0, 0, 200);
+
     private Playing playing;
     private BufferedImage img;
     private int imgX, imgY, imgW, imgH;
@@ -48,19 +50,28 @@ public class GameOverOverlay {
         imgH = (int) (img.getHeight() * Game.SCALE);
         imgX = Game.GAME_WIDTH / 2 - imgW / 2;
         imgY = (int) (100 * Game.SCALE);
+        img = LoadSave.GetScaledImage(LoadSave.DEATH_SCREEN, imgW, imgH);
     }
 
     /**
-     * Zeichnet das Overlay auf den Bildschirm.
+     * Zeichnet die Abdunklung und das Hintergrundbild des Overlays. Beides ändert sich nicht,
+     * solange das Overlay offen ist, und wird von {@link OverlayCache} zwischengespeichert.
      *
      * @param g Die Graphics-Instanz zum Zeichnen.
      */
-    public void draw(Graphics g) {
-        g.setColor(new Color(0, 0, 0, 200));
+    public void drawBackground(Graphics g) {
+        g.setColor(DIM);
         g.fillRect(0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT);
 
-        g.drawImage(img, imgX, imgY, imgW, imgH, null);
+        g.drawImage(img, imgX, imgY, null);
+    }
 
+    /**
+     * Zeichnet die Schaltflächen des Overlays.
+     *
+     * @param g Die Graphics-Instanz zum Zeichnen.
+     */
+    public void drawButtons(Graphics g) {
         menu.draw(g);
         play.draw(g);
     }
@@ -105,7 +116,7 @@ public class GameOverOverlay {
             }
         } else if (isIn(play, e)) {
             if (play.isMousePressed()) {
-                playing.resetAll();
+                playing.requestRestart();
                 playing.getGame().getAudioPlayer().setLevelSong(playing.getLevelManager().getLevelIndex());
             }
         }
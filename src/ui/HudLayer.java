@@ -0,0 +1,72 @@
+package ui;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.function.Consumer;
+
+import utilz.LoadSave;
+
+/**
+ * Die Klasse HudLayer hält eine Anzeige über der Szene, z.B. die Statusleiste, als fertig
+ * gezeichnete, transparente Ebene. Neu gezeichnet wird sie nur, wenn sich ihr Zustand ändert,
+ * z.B. die Breite einer Leiste; sonst kostet sie pro Frame genau einen {@code drawImage}-Aufruf.
+ */
+public class HudLayer {
+
+    private final Rectangle bounds;
+    private final BufferedImage image;
+    private long state;
+    private boolean valid;
+    private long rebuilds, blits;
+
+    /**
+     * Erzeugt eine leere Ebene.
+     *
+     * @param bounds Die Fläche der Ebene in Spielkoordinaten.
+     */
+    public HudLayer(Rectangle bounds) {
+        this.bounds = new Rectangle(bounds);
+        image = LoadSave.CreateCompatibleImage(bounds.width, bounds.height, Transparency.TRANSLUCENT);
+    }
+
+    /**
+     * Zeichnet die Ebene. Gehört sie nicht zu {@code state}, wird sie vorher geleert und mit
+     * {@code painter} in Spielkoordinaten neu gezeichnet.
+     *
+     * @param g       Die Grafikoberfläche.
+     * @param state   Der Zustand, aus dem die Ebene gezeichnet wird, z.B. die Leistenbreiten.
+     * @param painter Zeichnet die Anzeige.
+     */
+    public synchronized void draw(Graphics g, long state, Consumer<Graphics> painter) {
+        if (!valid || state != this.state) {
+            Graphics2D lg = image.createGraphics();
+            try {
+                lg.setComposite(AlphaComposite.Clear);
+                lg.fillRect(0, 0, bounds.width, bounds.height);
+                lg.setComposite(AlphaComposite.SrcOver);
+                lg.translate(-bounds.x, -bounds.y);
+                painter.accept(lg);
+            } finally {
+                lg.dispose();
+            }
+            this.state = state;
+            valid = true;
+            rebuilds++;
+        }
+        blits++;
+        g.drawImage(image, bounds.x, bounds.y, null);
+    }
+
+    /**
+     * Gibt an, wie oft die Ebene neu gezeichnet und wie oft sie nur kopiert wurde.
+     *
+     * @return Die Zusammenfassung.
+     */
+    public synchronized String report() {
+        return String.format("HUD: %d neu gezeichnet, %d kopiert", rebuilds, blits);
+    }
+}
@@ -17,6 +17,8 @@ import static utilz.Constants.UI.URMButtons.*;
  */
 public class LevelCompletedOverlay {
 
+    private static final Color DIM = new Color(0, 0, 0, 200);
+
     private Playing playing;
     private UrmButton menu, next;
     private BufferedImage img;
@@ -47,18 +49,28 @@ public class LevelCompletedOverlay {
         bgH = (int) (img.getHeight() * Game.SCALE);
         bgX = Game.GAME_WIDTH / 2 - bgW / 2;
         bgY = (int) (75 * Game.SCALE);
+        img = LoadSave.GetScaledImage(LoadSave.COMPLETED_IMG, bgW, bgH);
     }
 
     /**
-     * Zeichnet das Overlay auf den Bildschirm.
+     * Zeichnet die Abdunklung und das Hintergrundbild des Overlays. Beides ändert sich nicht,
+     * solange das Overlay offen ist, und wird von {@link OverlayCache} zwischengespeichert.
      *
      * @param g Die Graphics-Instanz zum Zeichnen.
      */
-    public void draw(Graphics g) {
-        g.setColor(new Color(0, 0, 0, 200));
+    public void drawBackground(Graphics g) {
+        g.setColor(DIM);
         g.fillRect(0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT);
 
-        g.drawImage(img, bgX, bgY, bgW, bgH, null);
+        g.drawImage(img, bgX, bgY, null);
+    }
+
+    /**
+     * Zeichnet die Schaltflächen des Overlays.
+     *
+     * @param g Die Graphics-Instanz zum Zeichnen.
+     */
+    public void drawButtons(Graphics g) {
         next.draw(g);
         menu.draw(g);
     }
@@ -103,8 +115,7 @@ public class LevelCompletedOverlay {
             }
         } else if (isIn(next, e)) {
             if (next.isMousePressed()) {
-                playing.loadNextLevel();
-                playing.getGame().getAudioPlayer().setLevelSong(playing.getLevelManager().getLevelIndex());
+                playing.requestNextLevel();
             }
         }
 
@@ -5,6 +5,8 @@ import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
 
 import gamestates.Gamestate;
+import mainPackage.Game;
+import render.SpriteRegistry;
 import utilz.LoadSave;
 import static utilz.Constants.UI.Buttons.*;
 
@@ -16,7 +18,7 @@ public class MenuButton {
     private int xPos, yPos, rowIndex, index;
     private int xOffsetCenter = B_WIDTH / 2;
     private Gamestate state;
-    private BufferedImage[] imgs;
+    private int spriteId;
     private boolean mouseOver, mousePressed;
     private Rectangle bounds;
 
@@ -42,10 +44,11 @@ public class MenuButton {
     }
 
     private void loadImgs() {
-        imgs = new BufferedImage[3];
+        BufferedImage[] imgs = new BufferedImage[3];
         BufferedImage temp = LoadSave.GetSpriteAtlas(LoadSave.MENU_BUTTONS);
         for (int i = 0; i < imgs.length; i++)
-            imgs[i] = temp.getSubimage(i * B_WIDTH_DEFAULT, rowIndex * B_HEIGHT_DEFAULT, B_WIDTH_DEFAULT, B_HEIGHT_DEFAULT);
+            imgs[i] = LoadSave.GetSubimage(temp, i * B_WIDTH_DEFAULT, rowIndex * B_HEIGHT_DEFAULT, B_WIDTH_DEFAULT, B_HEIGHT_DEFAULT);
+        spriteId = SpriteRegistry.register(LoadSave.MENU_BUTTONS + "#" + rowIndex, imgs);
     }
 
     /**
@@ -54,18 +57,22 @@ public class MenuButton {
      * @param g Die Graphics-Instanz zum Zeichnen.
      */
     public void draw(Graphics g) {
-        g.drawImage(imgs[index], xPos - xOffsetCenter, yPos, B_WIDTH, B_HEIGHT, null);
+        SpriteRegistry.draw(g, spriteId, index, xPos - xOffsetCenter, yPos, B_WIDTH, B_HEIGHT);
     }
 
     /**
      * Aktualisiert den Zustand der Schaltfläche basierend auf Mausinteraktionen.
+     *
+     * @return true, wenn sich das angezeigte Bild der Schaltfläche geändert hat.
      */
-    public void update() {
+    public boolean update() {
+        int previous = index;
         index = 0;
         if (mouseOver)
             index = 1;
         if (mousePressed)
             index = 2;
+        return index != previous;
     }
 
     /**
@@ -115,9 +122,11 @@ public class MenuButton {
 
     /**
      * Setzt den aktuellen Gamestate entsprechend der Schaltfläche.
+     *
+     * @param game Die Spielinstanz, deren Zustand gesetzt wird.
      */
-    public void applyGamestate() {
-        Gamestate.state = state;
+    public void applyGamestate(Game game) {
+        game.setGamestate(state);
     }
 
     /**
@@ -0,0 +1,59 @@
+package ui;
+
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.function.Consumer;
+
+import mainPackage.Game;
+import utilz.LoadSave;
+
+/**
+ * Die Klasse OverlayCache hält das Bild hinter einem geöffneten Overlay: die eingefrorene Szene
+ * samt Statusleiste, die Abdunklung und das Hintergrundbild des Overlays. Solange ein Overlay
+ * offen ist, steht die Welt still; das Bild wird deshalb nur beim Öffnen einmal gezeichnet, pro
+ * Frame kommen nur noch die Schaltflächen dazu.
+ * Jedes Öffnen eines Overlays trägt eine neue laufende Nummer; ändert sie sich, wird das Bild neu
+ * gezeichnet. Der Puffer selbst wird über alle Overlays hinweg wiederverwendet.
+ */
+public class OverlayCache {
+
+    private BufferedImage image;
+    private int serial = -1;
+    private long builds, reuses;
+
+    /**
+     * Zeichnet das zwischengespeicherte Bild. Gehört es nicht zu {@code serial}, wird es vorher
+     * mit {@code painter} neu gezeichnet.
+     *
+     * @param g       Die Grafikoberfläche.
+     * @param serial  Die laufende Nummer des geöffneten Overlays.
+     * @param painter Zeichnet Szene, Abdunklung und Overlay-Hintergrund in Spielauflösung.
+     */
+    public synchronized void draw(Graphics g, int serial, Consumer<Graphics> painter) {
+        if (image == null)
+            image = LoadSave.CreateCompatibleImage(Game.GAME_WIDTH, Game.GAME_HEIGHT, Transparency.OPAQUE);
+        if (serial != this.serial) {
+            Graphics2D ig = image.createGraphics();
+            try {
+                painter.accept(ig);
+            } finally {
+                ig.dispose();
+            }
+            this.serial = serial;
+            builds++;
+        } else
+            reuses++;
+        g.drawImage(image, 0, 0, null);
+    }
+
+    /**
+     * Gibt an, wie oft das Bild neu gezeichnet und wie oft es wiederverwendet wurde.
+     *
+     * @return Die Zusammenfassung.
+     */
+    public synchronized String report() {
+        return String.format("Overlay-Cache: %d neu gezeichnet, %d wiederverwendet", builds, reuses);
+    }
+}
@@ -1,5 +1,6 @@
 package ui;
 
+import java.awt.Color;
 import java.awt.Graphics;
 import java.awt.event.MouseEvent;
 import java.awt.image.BufferedImage;
@@ -17,6 +18,8 @@ import static utilz.Constants.UI.URMButtons.*;
  */
 public class PauseOverlay {
 
+    private static final Color DIM = new Color(0, 0, 0, 150);
+
     private Playing playing;
     private BufferedImage backgroundImg;
     private int bgX, bgY, bgW, bgH;
@@ -52,6 +55,7 @@ public class PauseOverlay {
         bgH = (int) (backgroundImg.getHeight() * Game.SCALE);
         bgX = Game.GAME_WIDTH / 2 - bgW / 2;
         bgY = (int) (25 * Game.SCALE);
+        backgroundImg = LoadSave.GetScaledImage(LoadSave.PAUSE_BACKGROUND, bgW, bgH);
     }
 
     /**
@@ -65,14 +69,24 @@ public class PauseOverlay {
     }
 
     /**
-     * Zeichnet das Pausen-Overlay auf die Grafikoberfläche.
+     * Zeichnet die Abdunklung der Szene und das Hintergrundbild des Pausenmenüs. Beides ändert
+     * sich nicht, solange das Spiel pausiert ist, und wird von {@link OverlayCache} zwischengespeichert.
      *
      * @param g Die Grafikoberfläche, auf die das Overlay gezeichnet wird.
      */
-    public void draw(Graphics g) {
-        // Hintergrund
-        g.drawImage(backgroundImg, bgX, bgY, bgW, bgH, null);
+    public void drawBackground(Graphics g) {
+        g.setColor(DIM);
+        g.fillRect(0, 0, Game.GAME_WIDTH, Game.GAME_HEIGHT);
+
+        g.drawImage(backgroundImg, bgX, bgY, null);
+    }
 
+    /**
+     * Zeichnet die Schaltflächen und Audio-Einstellungen des Pausen-Overlays.
+     *
+     * @param g Die Grafikoberfläche, auf die das Overlay gezeichnet wird.
+     */
+    public void drawButtons(Graphics g) {
         // UrmButtons
         menuB.draw(g);
         replayB.draw(g);
@@ -121,7 +135,7 @@ public class PauseOverlay {
             }
         } else if (isIn(e, replayB)) {
             if (replayB.isMousePressed()) {
-                playing.resetAll();
+                playing.requestRestart();
                 playing.unpauseGame();
             }
         } else if (isIn(e, unpauseB)) {
@@ -3,6 +3,7 @@ package ui;
 import java.awt.Graphics;
 import java.awt.image.BufferedImage;
 
+import render.SpriteRegistry;
 import utilz.LoadSave;
 import static utilz.Constants.UI.PauseButtons.*;
 
@@ -12,7 +13,7 @@ import static utilz.Constants.UI.PauseButtons.*;
  */
 public class SoundButton extends PauseButton {
 
-    private BufferedImage[][] soundImgs;
+    private int[] spriteIds;
     private boolean mouseOver, mousePressed;
     private boolean muted;
     private int rowIndex, colIndex;
@@ -32,16 +33,20 @@ public class SoundButton extends PauseButton {
 
     private void loadSoundImgs() {
         BufferedImage temp = LoadSave.GetSpriteAtlas(LoadSave.SOUND_BUTTONS);
-        soundImgs = new BufferedImage[2][3];
+        BufferedImage[][] soundImgs = new BufferedImage[2][3];
         for (int j = 0; j < soundImgs.length; j++)
             for (int i = 0; i < soundImgs[j].length; i++)
-                soundImgs[j][i] = temp.getSubimage(i * SOUND_SIZE_DEFAULT, j * SOUND_SIZE_DEFAULT, SOUND_SIZE_DEFAULT, SOUND_SIZE_DEFAULT);
+                soundImgs[j][i] = LoadSave.GetSubimage(temp, i * SOUND_SIZE_DEFAULT, j * SOUND_SIZE_DEFAULT, SOUND_SIZE_DEFAULT, SOUND_SIZE_DEFAULT);
+        spriteIds = SpriteRegistry.register(LoadSave.SOUND_BUTTONS, soundImgs);
     }
 
     /**
      * Aktualisiert den Zustand der Schaltfläche basierend auf Mausereignissen und stummschalten.
+     *
+     * @return true, wenn sich das angezeigte Bild der Schaltfläche geändert hat.
      */
-    public void update() {
+    public boolean update() {
+        int previousRow = rowIndex, previousCol = colIndex;
         if (muted)
             rowIndex = 1;
         else
@@ -52,6 +57,7 @@ public class SoundButton extends PauseButton {
             colIndex = 1;
         if (mousePressed)
             colIndex = 2;
+        return rowIndex != previousRow || colIndex != previousCol;
     }
 
     /**
@@ -68,7 +74,7 @@ public class SoundButton extends PauseButton {
      * @param g Die Grafikoberfläche, auf die die Schaltfläche gezeichnet wird.
      */
     public void draw(Graphics g) {
-        g.drawImage(soundImgs[rowIndex][colIndex], x, y, width, height, null);
+        SpriteRegistry.draw(g, spriteIds[rowIndex], colIndex, x, y, width, height);
     }
 
     /**
@@ -3,6 +3,7 @@ package ui;
 import java.awt.Graphics;
 import java.awt.image.BufferedImage;
 
+import render.SpriteRegistry;
 import utilz.LoadSave;
 import static utilz.Constants.UI.URMButtons.*;
 
@@ -12,7 +13,7 @@ import static utilz.Constants.UI.URMButtons.*;
  */
 public class UrmButton extends PauseButton {
 
-    private BufferedImage[] imgs;
+    private int spriteId;
     private int rowIndex, index;
     private boolean mouseOver, mousePressed;
 
@@ -33,20 +34,25 @@ public class UrmButton extends PauseButton {
 
     private void loadImgs() {
         BufferedImage temp = LoadSave.GetSpriteAtlas(LoadSave.URM_BUTTONS);
-        imgs = new BufferedImage[3];
+        BufferedImage[] imgs = new BufferedImage[3];
         for (int i = 0; i < imgs.length; i++)
-            imgs[i] = temp.getSubimage(i * URM_DEFAULT_SIZE, rowIndex * URM_DEFAULT_SIZE, URM_DEFAULT_SIZE, URM_DEFAULT_SIZE);
+            imgs[i] = LoadSave.GetSubimage(temp, i * URM_DEFAULT_SIZE, rowIndex * URM_DEFAULT_SIZE, URM_DEFAULT_SIZE, URM_DEFAULT_SIZE);
+        spriteId = SpriteRegistry.register(LoadSave.URM_BUTTONS + "#" + rowIndex, imgs);
     }
 
     /**
      * Aktualisiert den Zustand der Schaltfläche basierend auf Mausereignissen.
+     *
+     * @return true, wenn sich das angezeigte Bild der Schaltfläche geändert hat.
      */
-    public void update() {
+    public boolean update() {
+        int previous = index;
         index = 0;
         if (mouseOver)
             index = 1;
         if (mousePressed)
             index = 2;
+        return index != previous;
     }
 
     /**
@@ -55,7 +61,7 @@ public class UrmButton extends PauseButton {
      * @param g Die Grafikoberfläche, auf die die Schaltfläche gezeichnet wird.
      */
     public void draw(Graphics g) {
-        g.drawImage(imgs[index], x, y, URM_SIZE, URM_SIZE, null);
+        SpriteRegistry.draw(g, spriteId, index, x, y, URM_SIZE, URM_SIZE);
     }
 
     /**
@@ -6,6 +6,7 @@ import java.awt.image.BufferedImage;
 
 import gamestates.ChangeUser;
 import gamestates.Gamestate;
+import render.SpriteRegistry;
 import utilz.LoadSave;
 import static utilz.Constants.UI.Buttons.*;
 
@@ -22,7 +23,7 @@ public class UserButton {
 	private int xPos, yPos, rowIndex, index;
 	private int xOffsetCenter = B_WIDTH / 2;
 	private Gamestate state;
-	private BufferedImage[] imgs;
+	private int spriteId;
 	private boolean mouseOver, mousePressed;
 	private Rectangle bounds;
 	private JTextField userNameField;
@@ -58,10 +59,11 @@ public class UserButton {
 	}
 
 	private void loadImgs() {
-		imgs = new BufferedImage[3];
+		BufferedImage[] imgs = new BufferedImage[3];
 		BufferedImage temp = LoadSave.GetSpriteAtlas(LoadSave.LOGIN);
 		for (int i = 0; i < imgs.length; i++)
-			imgs[i] = temp.getSubimage(i * B_WIDTH_DEFAULT, rowIndex * B_HEIGHT_DEFAULT, B_WIDTH_DEFAULT, B_HEIGHT_DEFAULT);
+			imgs[i] = LoadSave.GetSubimage(temp, i * B_WIDTH_DEFAULT, rowIndex * B_HEIGHT_DEFAULT, B_WIDTH_DEFAULT, B_HEIGHT_DEFAULT);
+		spriteId = SpriteRegistry.register(LoadSave.LOGIN + "#" + rowIndex, imgs);
 	}
 	/**
      * Zeichnet die Schaltfläche auf die Grafikoberfläche.
@@ -69,15 +71,22 @@ public class UserButton {
      * @param g Die Grafikoberfläche, auf die die Schaltfläche gezeichnet wird.
      */
 	public void draw(Graphics g) {
-		g.drawImage(imgs[index], xPos - xOffsetCenter, yPos, B_WIDTH, B_HEIGHT, null);
+		SpriteRegistry.draw(g, spriteId, index, xPos - xOffsetCenter, yPos, B_WIDTH, B_HEIGHT);
 	}
 
-	public void update() {
+	/**
+	 * Aktualisiert den Zustand der Schaltfläche basierend auf Mausinteraktionen.
+	 *
+	 * @return true, wenn sich das angezeigte Bild der Schaltfläche geändert hat.
+	 */
+	public boolean update() {
+	    int previous = index;
 	    index = 0;
 	    if (mouseOver)
 	        index = 1;
 	    if (mousePressed)
 	        index = 2;
+	    return index != previous;
 	}
 	
 	/**
@@ -111,7 +120,7 @@ public class UserButton {
      */
 	public void applyGamestate() {
 		if (!userNameField.getText().trim().isEmpty())
-			Gamestate.state = state;
+			changeUser.getGame().setGamestate(state);
 		if (state == Gamestate.MENU) {
             String userName = userNameField.getText();
             if (!userName.trim().isEmpty())
@@ -1,8 +1,10 @@
 package ui;
 
 import java.awt.Graphics;
+import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
 
+import render.SpriteRegistry;
 import utilz.LoadSave;
 import static utilz.Constants.UI.VolumeButtons.*;
 
@@ -12,11 +14,12 @@ import static utilz.Constants.UI.VolumeButtons.*;
  */
 public class VolumeButton extends PauseButton {
 
-    private BufferedImage[] imgs;
-    private BufferedImage slider;
+    private int buttonId, sliderId;
     private int index = 0;
     private boolean mouseOver, mousePressed;
     private int buttonX, minX, maxX;
+    // Knopfposition beim letzten update(), um Verschiebungen zu melden
+    private int updatedX;
     private float floatValue = 0f;
 
     /**
@@ -31,6 +34,7 @@ public class VolumeButton extends PauseButton {
         super(x + width / 2, y, VOLUME_WIDTH, height);
         bounds.x -= VOLUME_WIDTH / 2;
         buttonX = x + width / 2;
+        updatedX = buttonX;
         this.x = x;
         this.width = width;
         minX = x + VOLUME_WIDTH / 2;
@@ -40,22 +44,38 @@ public class VolumeButton extends PauseButton {
 
     private void loadImgs() {
         BufferedImage temp = LoadSave.GetSpriteAtlas(LoadSave.VOLUME_BUTTONS);
-        imgs = new BufferedImage[3];
+        BufferedImage[] imgs = new BufferedImage[3];
         for (int i = 0; i < imgs.length; i++)
-            imgs[i] = temp.getSubimage(i * VOLUME_DEFAULT_WIDTH, 0, VOLUME_DEFAULT_WIDTH, VOLUME_DEFAULT_HEIGHT);
+            imgs[i] = LoadSave.GetSubimage(temp, i * VOLUME_DEFAULT_WIDTH, 0, VOLUME_DEFAULT_WIDTH, VOLUME_DEFAULT_HEIGHT);
+        buttonId = SpriteRegistry.register(LoadSave.VOLUME_BUTTONS, imgs);
 
-        slider = temp.getSubimage(3 * VOLUME_DEFAULT_WIDTH, 0, SLIDER_DEFAULT_WIDTH, VOLUME_DEFAULT_HEIGHT);
+        BufferedImage slider = LoadSave.GetSubimage(temp, 3 * VOLUME_DEFAULT_WIDTH, 0, SLIDER_DEFAULT_WIDTH, VOLUME_DEFAULT_HEIGHT);
+        sliderId = SpriteRegistry.register(LoadSave.VOLUME_BUTTONS + "#slider", slider);
     }
 
     /**
      * Aktualisiert den Zustand der Schaltfläche basierend auf Mausereignissen.
+     *
+     * @return true, wenn sich das Bild oder die Position des Reglers seit dem letzten Aufruf geändert hat.
      */
-    public void update() {
+    public boolean update() {
+        int previous = index, previousX = updatedX;
+        updatedX = buttonX;
         index = 0;
         if (mouseOver)
             index = 1;
         if (mousePressed)
             index = 2;
+        return index != previous || updatedX != previousX;
+    }
+
+    /**
+     * Gibt die Fläche des ganzen Schiebereglers samt Knopf zurück.
+     *
+     * @return Die Fläche in Spielkoordinaten.
+     */
+    public Rectangle getSliderBounds() {
+        return new Rectangle(x, y, width, height);
     }
 
     /**
@@ -64,8 +84,8 @@ public class VolumeButton extends PauseButton {
      * @param g Die Grafikoberfläche, auf die die Schaltfläche gezeichnet wird.
      */
     public void draw(Graphics g) {
-        g.drawImage(slider, x, y, width, height, null);
-        g.drawImage(imgs[index], buttonX - VOLUME_WIDTH / 2, y, VOLUME_WIDTH, height, null);
+        SpriteRegistry.draw(g, sliderId, 0, x, y, width, height);
+        SpriteRegistry.draw(g, buttonId, index, buttonX - VOLUME_WIDTH / 2, y, VOLUME_WIDTH, height);
     }
 
     /**
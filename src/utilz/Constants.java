@@ -4,8 +4,24 @@ import mainPackage.Game;
 
 public class Constants {
 
-	public static final float GRAVITY = 0.04f * Game.SCALE;
-	public static final int ANI_SPEED = 25;
+	// Alle Geschwindigkeiten und Zeiten wurden bei dieser Update-Rate abgestimmt.
+	public static final int BASE_UPS = 200;
+	// Länge eines Simulationsschritts relativ zum abgestimmten Schritt (dt in Basis-Ticks)
+	public static final float TICK_SCALE = (float) BASE_UPS / Game.UPS_SET;
+
+	// Beschleunigung pro Schritt wächst quadratisch mit der Schrittlänge, die Sprunghöhe bleibt so gleich.
+	public static final float GRAVITY = 0.04f * Game.SCALE * TICK_SCALE * TICK_SCALE;
+	public static final int ANI_SPEED = MillisToTicks(125);
+
+	/**
+	 * Rechnet eine Dauer in die Anzahl der Simulationsschritte bei {@link Game#UPS_SET} um.
+	 *
+	 * @param millis Die Dauer in Millisekunden.
+	 * @return Die Anzahl der Schritte, mindestens 1.
+	 */
+	public static int MillisToTicks(int millis) {
+		return Math.max(1, Math.round(millis * Game.UPS_SET / 1000f));
+	}
 
 	public static class Dialogue {
 		public static final int QUESTION = 0;
@@ -30,7 +46,7 @@ public class Constants {
 
 		public static final int CANNON_BALL_WIDTH = (int) (Game.SCALE * CANNON_BALL_DEFAULT_WIDTH);
 		public static final int CANNON_BALL_HEIGHT = (int) (Game.SCALE * CANNON_BALL_DEFAULT_HEIGHT);
-		public static final float SPEED = 0.75f * Game.SCALE;
+		public static final float SPEED = 0.75f * Game.SCALE * TICK_SCALE;
 	}
 
 	public static class ObjectConstants {
@@ -1,11 +1,17 @@
 package utilz;
 
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Transparency;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.imageio.ImageIO;
 
@@ -50,15 +56,66 @@ public class LoadSave {
 	public static final String WATER_TOP = "water_top.png";
 	public static final String WATER_BOTTOM = "water_bottom.png";
 
+	// Geladene Bilder werden nur gelesen und deshalb von allen Spielinstanzen geteilt.
+	private static final Map<String, BufferedImage> atlasCache = new ConcurrentHashMap<>();
+	private static volatile BufferedImage[] levelCache;
+
 	
 	/**
-     * Lädt das Sprite-Atlas für einen gegebenen Dateinamen.
+     * Lädt das Sprite-Atlas für einen gegebenen Dateinamen. Jede Datei wird nur einmal gelesen,
+     * weitere Aufrufe liefern dasselbe Bild. Das Bild darf daher nicht verändert werden.
+     * Das Bild liegt bereits im Pixelformat des Bildschirms vor, siehe {@link #ToCompatibleImage(BufferedImage)}.
      *
      * @param fileName Der Dateiname des Sprite-Atlas.
      * @return Das geladene BufferedImage.
      */
 
     public static BufferedImage GetSpriteAtlas(String fileName) {
+        return atlasCache.computeIfAbsent(fileName, name -> ToCompatibleImage(ReadImage(name)));
+    }
+
+    /**
+     * Lädt ein Bild und skaliert es einmalig auf die angegebene Größe, z.B. Hintergründe, die
+     * immer in derselben Größe gezeichnet werden. Das Ergebnis wird pro Größe zwischengespeichert,
+     * so dass pro Frame nur noch unskaliert kopiert wird. Skaliert wird mit Nearest-Neighbour,
+     * das Ergebnis entspricht also dem bisherigen Skalieren pro Zeichenaufruf.
+     *
+     * @param fileName Der Dateiname des Bildes.
+     * @param width    Die Zielbreite.
+     * @param height   Die Zielhöhe.
+     * @return Das skalierte Bild.
+     */
+    public static BufferedImage GetScaledImage(String fileName, int width, int height) {
+        BufferedImage img = GetSpriteAtlas(fileName);
+        return atlasCache.computeIfAbsent(fileName + "@" + width + "x" + height, key -> ScaleImage(img, width, height));
+    }
+
+    /**
+     * Skaliert ein Bild einmalig mit Nearest-Neighbour auf die angegebene Größe, wie beim
+     * Skalieren pro Zeichenaufruf. Das Ergebnis wird nicht zwischengespeichert.
+     *
+     * @param img    Das Quellbild.
+     * @param width  Die Zielbreite.
+     * @param height Die Zielhöhe.
+     * @return Das skalierte Bild, oder {@code img} selbst, wenn es schon die Zielgröße hat.
+     */
+    public static BufferedImage ScaleImage(BufferedImage img, int width, int height) {
+        if (img.getWidth() == width && img.getHeight() == height)
+            return img;
+        BufferedImage scaled = CreateCompatibleImage(width, height, img.getColorModel().getTransparency());
+        Graphics2D g = scaled.createGraphics();
+        g.drawImage(img, 0, 0, width, height, null);
+        g.dispose();
+        return scaled;
+    }
+
+    /**
+     * Liest ein Bild unverändert so, wie {@link ImageIO} es liefert, ohne Cache und ohne Umwandlung.
+     *
+     * @param fileName Der Dateiname des Bildes.
+     * @return Das gelesene Bild oder null, wenn es nicht gelesen werden konnte.
+     */
+    public static BufferedImage ReadImage(String fileName) {
         BufferedImage img = null;
         try (InputStream is = LoadSave.class.getResourceAsStream("/" + fileName)) {
             img = ImageIO.read(is);
@@ -68,13 +125,69 @@ public class LoadSave {
         return img;
     }
 
+    /**
+     * Schneidet einen Frame aus einem Atlas aus. Anders als {@link BufferedImage#getSubimage}
+     * entsteht eine eigenständige Kopie im Bildschirmformat, die nicht das Raster des ganzen
+     * Atlas teilt und deshalb von Java2D beschleunigt und zwischengespeichert werden kann.
+     *
+     * @param atlas  Das Atlas-Bild.
+     * @param x      Die x-Koordinate des Frames im Atlas.
+     * @param y      Die y-Koordinate des Frames im Atlas.
+     * @param width  Die Breite des Frames.
+     * @param height Die Höhe des Frames.
+     * @return Der Frame als eigenes Bild.
+     */
+    public static BufferedImage GetSubimage(BufferedImage atlas, int x, int y, int width, int height) {
+        return ToCompatibleImage(atlas.getSubimage(x, y, width, height));
+    }
+
+    /**
+     * Kopiert ein Bild in ein zum Bildschirm kompatibles Bild mit passender Transparenz.
+     *
+     * @param img Das Quellbild.
+     * @return Die Kopie oder null, wenn {@code img} null ist.
+     */
+    public static BufferedImage ToCompatibleImage(BufferedImage img) {
+        if (img == null)
+            return null;
+        BufferedImage copy = CreateCompatibleImage(img.getWidth(), img.getHeight(), img.getColorModel().getTransparency());
+        Graphics2D g = copy.createGraphics();
+        g.drawImage(img, 0, 0, null);
+        g.dispose();
+        return copy;
+    }
+
+    /**
+     * Erzeugt ein leeres Bild im Pixelformat des Bildschirms. Ohne Bildschirm (headless) wird
+     * {@link BufferedImage#TYPE_INT_ARGB_PRE} bzw. für deckende Bilder {@link BufferedImage#TYPE_INT_RGB} verwendet.
+     *
+     * @param width        Die Breite des Bildes.
+     * @param height       Die Höhe des Bildes.
+     * @param transparency Die Transparenz, siehe {@link Transparency}.
+     * @return Das neue Bild.
+     */
+    public static BufferedImage CreateCompatibleImage(int width, int height, int transparency) {
+        if (GraphicsEnvironment.isHeadless())
+            return new BufferedImage(width, height, transparency == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB_PRE);
+        GraphicsConfiguration gc = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+        return gc.createCompatibleImage(width, height, transparency);
+    }
+
     /**
      * Lädt alle Level-Bilder aus dem Verzeichnis "/lvls" und gibt sie als Array zurück.
+     * Die Bilder werden nur beim ersten Aufruf gelesen.
      *
      * @return Ein Array von BufferedImage für alle Level.
      */
 
     public static BufferedImage[] getAllLevels() {
+        BufferedImage[] levels = levelCache;
+        if (levels == null)
+            levelCache = levels = readAllLevels();
+        return levels.clone();
+    }
+
+    private static BufferedImage[] readAllLevels() {
         URL url = LoadSave.class.getResource("/lvls");
         File file = null;
 